@@ -1,12 +1,22 @@
 package pe.com.yzm.business;
 
-import pe.com.yzm.core.model.HeaderRequest;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
 import pe.com.yzm.expose.request.ActivityCreateRequest;
+import pe.com.yzm.expose.request.ActivityFilterRequest;
 import pe.com.yzm.expose.request.ActivityUpdateRequest;
+import pe.com.yzm.expose.response.ActivityBatchResponse;
 import pe.com.yzm.expose.response.ActivityResponse;
+import pe.com.yzm.expose.response.BatchResponse;
+import pe.com.yzm.expose.response.ImportResponse;
+import pe.com.yzm.expose.response.PageResponse;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
+
+import java.util.List;
+
 /**
  * <b>Class</b>: ActivityService <br/>
  * <b>Copyright</b>: 2024 Yovanny Zeballos Medina<br/>.
@@ -24,44 +34,104 @@ public interface ActivityService {
     /**
      * Finds an activity by its ID.
      *
-     * @param headerRequest The request header containing metadata for the request.
-     * @param id            The ID of the activity to find.
+     * @param id The ID of the activity to find.
      * @return A Mono emitting the ActivityResponse for the found activity, or Mono.empty() if no activity was found.
      */
-    Mono<ActivityResponse> findById(HeaderRequest headerRequest, Long id);
+    Mono<ActivityResponse> findById(Long id);
+
+    /**
+     * Finds several activities with a single query.
+     *
+     * @param ids The IDs to find.
+     * @return A Mono emitting the found ActivityResponses in request order and the IDs that were not found.
+     */
+    Mono<BatchResponse<ActivityResponse>> findByIds(List<Long> ids);
+
+    /**
+     * Finds a page of activities ordered by ID.
+     *
+     * @param limit The maximum number of activities to return.
+     * @param after The cursor returned by the previous page, or null for the first page.
+     * @return A Mono emitting the page of ActivityResponses and the cursor of the next page.
+     */
+    Mono<PageResponse<ActivityResponse>> findAll(Integer limit, String after);
+
+    /**
+     * Finds a page of activities ordered by ID, reading and returning only the requested fields.
+     *
+     * @param limit  The maximum number of activities to return.
+     * @param after  The cursor returned by the previous page, or null for the first page.
+     * @param fields The comma separated names of the ActivityResponse fields to return.
+     * @return A Mono emitting the page of requested fields and the cursor of the next page.
+     */
+    Mono<PageResponse<Map<String, Object>>> findAllFields(Integer limit, String after,
+                                                          String fields);
+
+    /**
+     * Finds a page of activities ordered by ID matching every given filter.
+     *
+     * @param filter The project, HourBag and UserActivity to filter by; null values are ignored.
+     * @param limit  The maximum number of activities to return.
+     * @param after  The cursor returned by the previous page, or null for the first page.
+     * @return A Mono emitting the page of ActivityResponses and the cursor of the next page.
+     */
+    Mono<PageResponse<ActivityResponse>> findAllByFilter(ActivityFilterRequest filter,
+                                                         Integer limit, String after);
+
+    /**
+     * Streams every activity ordered by ID, reading them in keyset batches paced by the client.
+     *
+     * @return A Flux emitting the ActivityResponses one by one.
+     */
+    Flux<ActivityResponse> findAllStream();
 
     /**
-     * Finds all activities.
+     * Exports every activity joined with its HourBag cost and project as CSV, written into buffers of the
+     * response as the rows are read.
      *
-     * @param headerRequest The request header containing metadata for the request.
-     * @return A Flux emitting the ActivityResponses for all found activities.
+     * @param caller        The key of the caller the export is rate limited by.
+     * @param bufferFactory The factory of the response buffers.
+     * @return A Flux emitting the CSV content, or a TOO_MANY_REQUESTS error if the caller is over its limits.
      */
-    Flux<ActivityResponse> findAll(HeaderRequest headerRequest);
+    Flux<DataBuffer> findAllCostsCsv(String caller, DataBufferFactory bufferFactory);
 
     /**
      * Creates a new activity.
      *
-     * @param headerRequest   The request header containing metadata for the request.
      * @param activityRequest The request containing the data for the activity to create.
      * @return A Mono emitting the ActivityResponse for the created activity.
      */
-    Mono<ActivityResponse> create(HeaderRequest headerRequest, ActivityCreateRequest activityRequest);
+    Mono<ActivityResponse> create(ActivityCreateRequest activityRequest);
+
+    /**
+     * Creates a list of activities in a single transaction.
+     *
+     * @param activityRequests The requests containing the data for the activities to create.
+     * @return A Mono emitting the generated IDs in the same order as the requests.
+     */
+    Mono<ActivityBatchResponse> createBatch(List<ActivityCreateRequest> activityRequests);
+
+    /**
+     * Imports activities as they are read from the upload, each chunk consuming its hours in its own transaction.
+     *
+     * @param activityRequests The activities of the upload, in order.
+     * @return A Mono emitting the imported count and the rejected rows.
+     */
+    Mono<ImportResponse> importActivities(Flux<ActivityCreateRequest> activityRequests);
 
     /**
      * Updates an existing activity.
      *
-     * @param headerRequest   The request header containing metadata for the request.
      * @param activityRequest The request containing the updated data for the activity.
      * @return A Mono emitting the ActivityResponse for the updated activity.
      */
-    Mono<ActivityResponse> update(HeaderRequest headerRequest, ActivityUpdateRequest activityRequest);
+    Mono<ActivityResponse> update(ActivityUpdateRequest activityRequest);
 
     /**
      * Deletes an activity by its ID.
      *
-     * @param headerRequest The request header containing metadata for the request.
-     * @param id            The ID of the activity to delete.
+     * @param id The ID of the activity to delete.
      * @return A Mono emitting completion signal once the activity is deleted, or Mono.empty() if no activity was found.
      */
-    Mono<Void> delete(HeaderRequest headerRequest, Long id);
+    Mono<Void> delete(Long id);
 }
@@ -1,12 +1,16 @@
 package pe.com.yzm.business;
 
-import pe.com.yzm.core.model.HeaderRequest;
 import pe.com.yzm.expose.request.CompanyCreateRequest;
+import pe.com.yzm.expose.response.BatchResponse;
 import pe.com.yzm.expose.response.CompanyResponse;
+import pe.com.yzm.expose.response.ImportResponse;
+import pe.com.yzm.expose.response.PageResponse;
 import pe.com.yzm.expose.request.CompanyUpdateRequest;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * <b>Class</b>: CompanyService <br/>
  * <b>Copyright</b>: 2024 Yovanny Zeballos Medina<br/>.
@@ -25,52 +29,71 @@ public interface CompanyService {
     /**
      * Finds a company by its ID.
      *
-     * @param headerRequest The request header containing necessary context information.
-     * @param id            The ID of the company to be found.
+     * @param id The ID of the company to be found.
      * @return A Mono of CompanyResponse containing the company details if found.
      */
-    Mono<CompanyResponse> findByCompanyId(HeaderRequest headerRequest, Long id);
+    Mono<CompanyResponse> findByCompanyId(Long id);
 
     /**
-     * Finds all companies.
+     * Finds several companies with a single query.
      *
-     * @param headerRequest The request header containing necessary context information.
-     * @return A Flux of CompanyResponse containing all the companies.
+     * @param ids The IDs to find.
+     * @return A Mono emitting the found CompanyResponses in request order and the IDs that were not found.
+     */
+    Mono<BatchResponse<CompanyResponse>> findByCompanyIds(List<Long> ids);
+
+    /**
+     * Finds a page of companies ordered by ID.
+     *
+     * @param limit The maximum number of companies to return.
+     * @param after The cursor returned by the previous page, or null for the first page.
+     * @return A Mono of PageResponse containing the companies and the cursor of the next page.
+     */
+    Mono<PageResponse<CompanyResponse>> findAllCompany(Integer limit, String after);
+
+    /**
+     * Streams every company ordered by ID, reading them in keyset batches paced by the client.
+     *
+     * @return A Flux emitting the CompanyResponses one by one.
      */
-    Flux<CompanyResponse> findAllCompany(HeaderRequest headerRequest);
+    Flux<CompanyResponse> findAllCompanyStream();
 
     /**
      * Finds all companies by user.
      *
-     * @param headerRequest The request header containing necessary context information.
      * @return A Flux of CompanyResponse containing all the companies.
      */
-    Flux<CompanyResponse> findAllCompanyByUser(HeaderRequest headerRequest, Long userId);
+    Flux<CompanyResponse> findAllCompanyByUser(Long userId);
 
     /**
      * Saves a new company.
      *
-     * @param headerRequest The request header containing necessary context information.
      * @param companyRequest The request containing the company details to be saved.
      * @return A Mono of CompanyResponse containing the saved company details.
      */
-    Mono<CompanyResponse> saveCompany(HeaderRequest headerRequest, CompanyCreateRequest companyRequest);
+    Mono<CompanyResponse> saveCompany(CompanyCreateRequest companyRequest);
+
+    /**
+     * Imports companies as they are read from the upload, in batched transactions.
+     *
+     * @param companyRequests The companies of the upload, in order.
+     * @return A Mono of ImportResponse with the imported count and the rejected rows.
+     */
+    Mono<ImportResponse> importCompanies(Flux<CompanyCreateRequest> companyRequests);
 
     /**
      * Updates a company.
      *
-     * @param headerRequest The request header containing necessary context information.
      * @param companyRequest The request containing the company details to be updated.
      * @return A Mono of CompanyResponse containing the updated company details.
      */
-    Mono<CompanyResponse> updateCompany(HeaderRequest headerRequest, CompanyUpdateRequest companyRequest);
+    Mono<CompanyResponse> updateCompany(CompanyUpdateRequest companyRequest);
 
     /**
      * Deletes a company.
      *
-     * @param headerRequest The request header containing necessary context information.
      * @param id The ID of the company to be deleted.
      * @return A Mono of CompanyResponse containing the deleted company details.
      */
-    Mono<Void> deleteCompany(HeaderRequest headerRequest, Long id);
+    Mono<Void> deleteCompany(Long id);
 }
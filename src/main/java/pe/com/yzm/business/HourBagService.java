@@ -1,12 +1,15 @@
 package pe.com.yzm.business;
 
-import pe.com.yzm.core.model.HeaderRequest;
 import pe.com.yzm.expose.request.HourBagCreateRequest;
 import pe.com.yzm.expose.request.HourBagUpdateRequest;
+import pe.com.yzm.expose.response.BatchResponse;
 import pe.com.yzm.expose.response.HourBagResponse;
+import pe.com.yzm.expose.response.PageResponse;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * <b>Class</b>: HourBagService <br/>
  * <b>Copyright</b>: 2024 Yovanny Zeballos Medina<br/>.
@@ -26,43 +29,55 @@ public interface HourBagService {
     /**
      * Finds all active HourBags.
      *
-     * @param headerRequest The request header containing metadata for the request.
      * @return A Flux emitting the HourBagResponses for all found active HourBags.
      */
-    Flux<HourBagResponse> findAllActive(HeaderRequest headerRequest);
+    Flux<HourBagResponse> findAllActive();
+
+    /**
+     * Finds several HourBags with a single query.
+     *
+     * @param ids The IDs to find.
+     * @return A Mono emitting the found HourBagResponses in request order and the IDs that were not found.
+     */
+    Mono<BatchResponse<HourBagResponse>> findByIds(List<Long> ids);
+
+    /**
+     * Finds a page of HourBags ordered by ID.
+     *
+     * @param limit The maximum number of HourBags to return.
+     * @param after The cursor returned by the previous page, or null for the first page.
+     * @return A Mono emitting the page of HourBagResponses and the cursor of the next page.
+     */
+    Mono<PageResponse<HourBagResponse>> findAll(Integer limit, String after);
 
     /**
-     * Finds all HourBags.
+     * Streams every HourBag ordered by ID, reading them in keyset batches paced by the client.
      *
-     * @param headerRequest The request header containing metadata for the request.
-     * @return A Flux emitting the HourBagResponses for all found HourBags.
+     * @return A Flux emitting the HourBagResponses one by one.
      */
-    Flux<HourBagResponse> findAll(HeaderRequest headerRequest);
+    Flux<HourBagResponse> findAllStream();
 
     /**
      * Creates a new HourBag.
      *
-     * @param headerRequest  The request header containing metadata for the request.
      * @param hourBagRequest The request containing the data for the HourBag to create.
      * @return A Mono emitting the HourBagResponse for the created HourBag.
      */
-    Mono<HourBagResponse> create(HeaderRequest headerRequest, HourBagCreateRequest hourBagRequest);
+    Mono<HourBagResponse> create(HourBagCreateRequest hourBagRequest);
 
     /**
      * Updates an existing HourBag.
      *
-     * @param headerRequest  The request header containing metadata for the request.
      * @param hourBagRequest The request containing the updated data for the HourBag.
      * @return A Mono emitting the HourBagResponse for the updated HourBag.
      */
-    Mono<HourBagResponse> update(HeaderRequest headerRequest, HourBagUpdateRequest hourBagRequest);
+    Mono<HourBagResponse> update(HourBagUpdateRequest hourBagRequest);
 
     /**
      * Deletes a HourBag by its ID.
      *
-     * @param headerRequest The request header containing metadata for the request.
-     * @param id            The ID of the HourBag to delete.
+     * @param id The ID of the HourBag to delete.
      * @return A Mono emitting completion signal once the HourBag is deleted, or Mono.empty() if no HourBag was found.
      */
-    Mono<Void> delete(HeaderRequest headerRequest, Long id);
+    Mono<Void> delete(Long id);
 }
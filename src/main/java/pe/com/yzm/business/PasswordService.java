@@ -1,5 +1,6 @@
 package pe.com.yzm.business;
 
+import reactor.core.publisher.Mono;
 
 /**
  * <b>Class</b>: PasswordService <br/>
@@ -17,19 +18,20 @@ package pe.com.yzm.business;
 public interface PasswordService {
 
   /**
-   * Encodes the provided raw password.
+   * Encodes the provided raw password on the hashing scheduler.
    *
    * @param rawPassword The raw password to be encoded.
-   * @return The encoded password.
+   * @return A Mono emitting the encoded password, or a 503 BusinessException if the hashing queue is full.
    */
-  String encode(String rawPassword);
+  Mono<String> encode(String rawPassword);
 
   /**
-   * Checks if the provided raw password matches the encoded password.
+   * Checks if the provided raw password matches the encoded password on the hashing scheduler.
    *
    * @param rawPassword     The raw password to be checked.
    * @param encodedPassword The encoded password to be matched with.
-   * @return True if the raw password matches the encoded password, false otherwise.
+   * @return A Mono emitting true if the raw password matches the encoded password, false otherwise,
+   *     or a 503 BusinessException if the hashing queue is full.
    */
-  Boolean matches(String rawPassword, String encodedPassword);
+  Mono<Boolean> matches(String rawPassword, String encodedPassword);
 }
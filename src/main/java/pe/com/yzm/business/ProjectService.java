@@ -1,13 +1,16 @@
 package pe.com.yzm.business;
 
-import pe.com.yzm.core.model.HeaderRequest;
 import pe.com.yzm.expose.request.ProjectCreateRequest;
 import pe.com.yzm.expose.request.ProjectUpdateRequest;
+import pe.com.yzm.expose.response.BatchResponse;
+import pe.com.yzm.expose.response.ImportResponse;
 import pe.com.yzm.expose.response.ProjectCompanyResponse;
 import pe.com.yzm.expose.response.ProjectResponse;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * <b>Class</b>: ProjectService <br/>
  * <b>Copyright</b>: 2024 Yovanny Zeballos Medina<br/>.
@@ -26,49 +29,60 @@ public interface ProjectService {
     /**
      * Fetches all projects that belong to a user.
      *
-     * This method first fetches all companies that belong to the user specified by the userId parameter.
-     * Then, for each company, it fetches all projects that belong to that company.
+     * The projects and the names of their companies are read with a single query over the companies of the
+     * user specified by the userId parameter.
      * The result is a Flux of ProjectResponse objects, each representing a project that belongs to a company of the user.
      *
-     * @param headerRequest The header request containing necessary request metadata.
      * @param userId The ID of the user for whom to fetch the projects.
      * @return A Flux of ProjectResponse objects representing the projects found.
      */
-    Flux<ProjectCompanyResponse> findAllProjectsByUserId(HeaderRequest headerRequest, Long userId);
+    Flux<ProjectCompanyResponse> findAllProjectsByUserId(Long userId);
 
     /**
      * Fetches a project by its ID.
      *
-     * @param headerRequest The header request containing necessary request metadata.
-     * @param id            The ID of the project to fetch.
+     * @param id The ID of the project to fetch.
      * @return A Mono of ProjectResponse object representing the project found, or empty if no project is found.
      */
-    Mono<ProjectResponse> findByProjectId(HeaderRequest headerRequest, Long id);
+    Mono<ProjectResponse> findByProjectId(Long id);
+
+    /**
+     * Finds several projects with a single query.
+     *
+     * @param ids The IDs to find.
+     * @return A Mono emitting the found ProjectResponses in request order and the IDs that were not found.
+     */
+    Mono<BatchResponse<ProjectResponse>> findByProjectIds(List<Long> ids);
 
     /**
      * Saves a new project.
      *
-     * @param headerRequest  The header request containing necessary request metadata.
      * @param projectRequest The request object containing the details of the project to be saved.
      * @return A Mono of ProjectResponse object representing the saved project.
      */
-    Mono<ProjectResponse> saveProject(HeaderRequest headerRequest, ProjectCreateRequest projectRequest);
+    Mono<ProjectResponse> saveProject(ProjectCreateRequest projectRequest);
+
+    /**
+     * Imports projects as they are read from the upload, in batched transactions.
+     *
+     * @param projectRequests The projects of the upload, in order.
+     * @return A Mono of ImportResponse with the imported count and the rejected rows.
+     */
+    Mono<ImportResponse> importProjects(Flux<ProjectCreateRequest> projectRequests);
 
     /**
      * Updates an existing project.
      *
-     * @param headerRequest  The header request containing necessary request metadata.
      * @param projectRequest The request object containing the updated details of the project.
      * @return A Mono of ProjectResponse object representing the updated project.
      */
-    Mono<ProjectResponse> updateProject(HeaderRequest headerRequest, ProjectUpdateRequest projectRequest);
+    Mono<ProjectResponse> updateProject(ProjectUpdateRequest projectRequest);
 
     /**
      * Deletes a project by its ID.
      *
-     * @param headerRequest The header request containing necessary request metadata.
-     * @param id            The ID of the project to be deleted.
+     * @param id The ID of the project to be deleted.
      * @return A Mono of Void indicating the completion of the deletion operation.
      */
-    Mono<Void> deleteProject(HeaderRequest headerRequest, Long id);
+    Mono<Void> deleteProject(Long id);
 }
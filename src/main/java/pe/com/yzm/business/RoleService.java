@@ -1,10 +1,11 @@
 package pe.com.yzm.business;
 
-import pe.com.yzm.core.model.HeaderRequest;
+import pe.com.yzm.expose.response.BatchResponse;
 import pe.com.yzm.expose.response.RoleResponse;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * <b>Class</b>: RoleService <br/>
  * <b>Copyright</b>: 2024 Yovanny Zeballos Medina<br/>.
@@ -26,13 +27,21 @@ public interface RoleService {
    * @param roleId the ID of the Rol entity to retrieve
    * @return a Mono that emits the Rol entity if found, or Mono.empty() if not found
    */
-  Mono<RoleResponse> findByRoleId(HeaderRequest headerRequest, Long roleId);
+  Mono<RoleResponse> findByRoleId(Long roleId);
+
+  /**
+   * Retrieves several Rol entities by their IDs.
+   *
+   * @param ids the IDs of the Rol entities to retrieve
+   * @return a Mono that emits the found Rol entities in request order and the IDs that were not found
+   */
+  Mono<BatchResponse<RoleResponse>> findByRoleIds(List<Long> ids);
 
   /**
-   * Retrieves all Rol entities.
+   * Retrieves all Rol entities already encoded as a JSON array, served from the in-memory snapshot.
    *
-   * @return a Flux that emits all Rol entities
+   * @return a Mono that emits the JSON bytes of all Rol entities
    */
-  Flux<RoleResponse> findAllRoles(HeaderRequest headerRequest);
+  Mono<byte[]> findAllRolesJson();
 
 }
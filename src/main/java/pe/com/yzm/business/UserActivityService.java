@@ -1,12 +1,15 @@
 package pe.com.yzm.business;
 
-import pe.com.yzm.core.model.HeaderRequest;
 import pe.com.yzm.expose.request.UserActivityCreateRequest;
 import pe.com.yzm.expose.request.UserActivityUpdateRequest;
+import pe.com.yzm.expose.response.BatchResponse;
+import pe.com.yzm.expose.response.PageResponse;
 import pe.com.yzm.expose.response.UserActivityResponse;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * <b>Class</b>: UserActivityService <br/>
  * <b>Copyright</b>: 2024 Yovanny Zeballos Medina<br/>.
@@ -24,44 +27,56 @@ public interface UserActivityService {
     /**
      * Finds a UserActivity by its ID.
      *
-     * @param headerRequest The request header containing metadata for the request.
-     * @param id            The ID of the UserActivity to find.
+     * @param id The ID of the UserActivity to find.
      * @return A Mono emitting the UserActivityResponse for the found UserActivity, or Mono.empty() if no UserActivity was found.
      */
-    Mono<UserActivityResponse> findById(HeaderRequest headerRequest, Long id);
+    Mono<UserActivityResponse> findById(Long id);
+
+    /**
+     * Finds several UserActivities with a single query.
+     *
+     * @param ids The IDs to find.
+     * @return A Mono emitting the found UserActivityResponses in request order and the IDs that were not found.
+     */
+    Mono<BatchResponse<UserActivityResponse>> findByIds(List<Long> ids);
+
+    /**
+     * Finds a page of UserActivities ordered by ID.
+     *
+     * @param limit The maximum number of UserActivities to return.
+     * @param after The cursor returned by the previous page, or null for the first page.
+     * @return A Mono emitting the page of UserActivityResponses and the cursor of the next page.
+     */
+    Mono<PageResponse<UserActivityResponse>> findAll(Integer limit, String after);
 
     /**
-     * Finds all UserActivities.
+     * Streams every UserActivity ordered by ID, reading them in keyset batches paced by the client.
      *
-     * @param headerRequest The request header containing metadata for the request.
-     * @return A Flux emitting the UserActivityResponses for all found UserActivities.
+     * @return A Flux emitting the UserActivityResponses one by one.
      */
-    Flux<UserActivityResponse> findAll(HeaderRequest headerRequest);
+    Flux<UserActivityResponse> findAllStream();
 
     /**
      * Creates a new UserActivity.
      *
-     * @param headerRequest       The request header containing metadata for the request.
      * @param userActivityRequest The request containing the data for the UserActivity to create.
      * @return A Mono emitting the UserActivityResponse for the created UserActivity.
      */
-    Mono<UserActivityResponse> create(HeaderRequest headerRequest, UserActivityCreateRequest userActivityRequest);
+    Mono<UserActivityResponse> create(UserActivityCreateRequest userActivityRequest);
 
     /**
      * Updates an existing UserActivity.
      *
-     * @param headerRequest       The request header containing metadata for the request.
      * @param userActivityRequest The request containing the updated data for the UserActivity.
      * @return A Mono emitting the UserActivityResponse for the updated UserActivity.
      */
-    Mono<UserActivityResponse> update(HeaderRequest headerRequest, UserActivityUpdateRequest userActivityRequest);
+    Mono<UserActivityResponse> update(UserActivityUpdateRequest userActivityRequest);
 
     /**
      * Deletes a UserActivity by its ID.
      *
-     * @param headerRequest The request header containing metadata for the request.
-     * @param id            The ID of the UserActivity to delete.
+     * @param id The ID of the UserActivity to delete.
      * @return A Mono emitting completion signal once the UserActivity is deleted, or Mono.empty() if no UserActivity was found.
      */
-    Mono<Void> delete(HeaderRequest headerRequest, Long id);
+    Mono<Void> delete(Long id);
 }
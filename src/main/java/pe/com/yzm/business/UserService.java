@@ -1,12 +1,16 @@
 package pe.com.yzm.business;
 
-import pe.com.yzm.core.model.HeaderRequest;
 import pe.com.yzm.expose.request.UserCreateRequest;
 import pe.com.yzm.expose.request.UserUpdateRequest;
+import pe.com.yzm.expose.response.BatchResponse;
+import pe.com.yzm.expose.response.PageResponse;
 import pe.com.yzm.expose.response.UserResponse;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * <b>Class</b>: UserService <br/>
  * <b>Copyright</b>: 2024 Yovanny Zeballos Medina<br/>.
@@ -22,15 +26,22 @@ import reactor.core.publisher.Mono;
  */
 public interface UserService {
 
-  Mono<UserResponse> findUserById(HeaderRequest headerRequest, Long userId);
+  Mono<UserResponse> findUserById(Long userId);
+
+  Mono<BatchResponse<UserResponse>> findUserByIds(List<Long> ids);
+
+  Mono<PageResponse<UserResponse>> findAllUsers(Integer limit, String after);
+
+  Mono<PageResponse<Map<String, Object>>> findAllUsersFields(Integer limit, String after,
+                                                             String fields);
 
-  Flux<UserResponse> findAllUsers(HeaderRequest headerRequest);
+  Flux<UserResponse> findAllUsersStream();
 
-  Mono<UserResponse> saveUser(HeaderRequest headerRequest, UserCreateRequest user);
+  Mono<UserResponse> saveUser(UserCreateRequest user);
 
-  Mono<UserResponse> updateUser(HeaderRequest headerRequest, UserUpdateRequest user);
+  Mono<UserResponse> updateUser(UserUpdateRequest user);
 
-  Mono<Void> deleteUser(HeaderRequest headerRequest, Long userId);
+  Mono<Void> deleteUser(Long userId);
 
 
 }
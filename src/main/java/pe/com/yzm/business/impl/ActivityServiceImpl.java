@@ -1,22 +1,57 @@
 package pe.com.yzm.business.impl;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import pe.com.yzm.business.ActivityService;
+import pe.com.yzm.cache.CacheEntity;
+import pe.com.yzm.cache.CacheInvalidationBus;
+import pe.com.yzm.cache.EntityVersions;
+import pe.com.yzm.cache.NegativeCache;
+import pe.com.yzm.config.ActivityBatchProperties;
+import pe.com.yzm.config.ActivityExportProperties;
+import pe.com.yzm.config.ImportProperties;
+import pe.com.yzm.config.StreamingProperties;
 import pe.com.yzm.core.exception.BusinessException;
-import pe.com.yzm.core.logger.LoggerUtil;
-import pe.com.yzm.core.model.HeaderRequest;
 import pe.com.yzm.expose.request.ActivityCreateRequest;
+import pe.com.yzm.expose.request.ActivityFilterRequest;
 import pe.com.yzm.expose.request.ActivityUpdateRequest;
+import pe.com.yzm.expose.response.ActivityBatchResponse;
 import pe.com.yzm.expose.response.ActivityResponse;
+import pe.com.yzm.expose.response.BatchResponse;
+import pe.com.yzm.expose.response.ImportResponse;
+import pe.com.yzm.expose.response.PageResponse;
+import pe.com.yzm.logging.StreamLogger;
+import pe.com.yzm.logging.TransactionLogger;
 import pe.com.yzm.mapper.ActivityMapper;
+import pe.com.yzm.model.Activity;
+import pe.com.yzm.model.HourBag;
 import pe.com.yzm.repository.ActivityRepository;
+import pe.com.yzm.repository.HourBagRepository;
+import pe.com.yzm.util.BatchUtil;
+import pe.com.yzm.util.CallerRateLimiter;
 import pe.com.yzm.util.ConstantMessage;
+import pe.com.yzm.util.CsvUtil;
+import pe.com.yzm.util.ImportUtil;
+import pe.com.yzm.util.ErrorUtil;
+import pe.com.yzm.util.PageUtil;
+import pe.com.yzm.util.SparseFields;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * <b>Class</b>: ActivityServiceImpl <br/>
@@ -35,98 +70,389 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ActivityServiceImpl implements ActivityService {
 
+    private static final Mono<Activity> ACTIVITY_GET_NOT_FOUND = ErrorUtil.notFound(ConstantMessage.ACTIVITY_GET_ERROR,
+            ConstantMessage.ACTIVITY_NOT_FOUND);
+    private static final Mono<Activity> ACTIVITY_UPDATE_NOT_FOUND = ErrorUtil.notFound(ConstantMessage.ACTIVITY_UPDATE_ERROR,
+            ConstantMessage.ACTIVITY_NOT_FOUND);
+    private static final Mono<Activity> ACTIVITY_DELETE_NOT_FOUND = ErrorUtil.notFound(ConstantMessage.ACTIVITY_DELETE_ERROR,
+            ConstantMessage.ACTIVITY_NOT_FOUND);
+    private static final Mono<HourBag> HOUR_BAG_INSUFFICIENT_HOURS = ErrorUtil.lazyError(
+            ConstantMessage.HOUR_BAG_CONSUME_ERROR, ConstantMessage.HOUR_BAG_INSUFFICIENT_HOURS, HttpStatus.BAD_REQUEST);
+
+    private static final SparseFields<Activity> ACTIVITY_FIELDS = SparseFields.<Activity>builder("id")
+            .field("id", "id", Activity::getId)
+            .field("code", "codigo", Activity::getCode)
+            .field("description", "descripcion", Activity::getDescription)
+            .field("projectId", "proyecto_id", Activity::getProjectId)
+            .field("effortHours", "horas_esfuerzo", Activity::getEffortHours)
+            .field("hourBagId", "bolsa_hora_id", Activity::getHourBagId)
+            .field("userActivityId", "usuario_actividad_id", Activity::getUserActivityId)
+            .build();
+
+    private static final Object[] EXPORT_HEADER = {"actividad_id", "codigo", "descripcion", "proyecto_id", "proyecto",
+            "bolsa_hora_id", "horas_esfuerzo", "costo_hora", "costo"};
+    private static final int EXPORT_LINE_CAPACITY = 256;
+
     private final ActivityRepository activityRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final EntityVersions entityVersions;
+    private final NegativeCache negativeCache;
+    private final HourBagRepository hourBagRepository;
     private final ActivityMapper activityMapper;
+    private final ActivityBatchProperties activityBatchProperties;
+    private final ActivityExportProperties activityExportProperties;
+    private final CallerRateLimiter activityExportRateLimiter;
+    private final ImportProperties importProperties;
+    private final Validator validator;
+    private final StreamingProperties streamingProperties;
+    private final StreamLogger streamLogger;
+    private final TransactionalOperator transactionalOperator;
+    private final MeterRegistry meterRegistry;
 
     /**
-     * Finds an activity by its ID.
+     * Finds an activity by its ID. IDs found missing shortly before are answered without querying the database.
      *
-     * @param headerRequest The request header containing metadata for the request.
-     * @param id            The ID of the activity to find.
+     * @param id The ID of the activity to find.
      * @return A Mono emitting the ActivityResponse for the found activity, or Mono.empty() if no activity was found.
      */
     @Override
-    public Mono<ActivityResponse> findById(HeaderRequest headerRequest, Long id) {
-        LoggerUtil.logInput(headerRequest.getTransactionId(), headerRequest.toString(), id);
-        return activityRepository.findById(id)
-                .switchIfEmpty(Mono.error(BusinessException.createException(ConstantMessage.ACTIVITY_GET_ERROR,
-                        List.of(ConstantMessage.ACTIVITY_NOT_FOUND), HttpStatus.NOT_FOUND)))
+    public Mono<ActivityResponse> findById(Long id) {
+        TransactionLogger.logInput(id);
+        return negativeCache.lookup(CacheEntity.ACTIVITY, id, () -> activityRepository.findById(id))
+                .switchIfEmpty(ACTIVITY_GET_NOT_FOUND)
+                .map(activityMapper::activityToActivityResponse)
+                .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+                .doOnError(TransactionLogger::logError);
+    }
+
+    /**
+     * Finds several activities with a single {@code id = ANY(:ids)} query.
+     *
+     * @param ids The IDs to find.
+     * @return A Mono emitting the found ActivityResponses in request order and the IDs that were not found.
+     */
+    @Override
+    public Mono<BatchResponse<ActivityResponse>> findByIds(List<Long> ids) {
+        TransactionLogger.logInput(ids);
+        return activityRepository.findByIds(BatchUtil.toArray(ids))
+                .map(activityMapper::activityToActivityResponse)
+                .collectList()
+                .map(responses -> BatchUtil.inRequestOrder(ids, responses, ActivityResponse::getId))
+                .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+                .doOnError(TransactionLogger::logError);
+    }
+
+    /**
+     * Finds a page of activities ordered by ID.
+     *
+     * @param limit The maximum number of activities to return.
+     * @param after The cursor returned by the previous page, or null for the first page.
+     * @return A Mono emitting the page of ActivityResponses and the cursor of the next page.
+     */
+    @Override
+    public Mono<PageResponse<ActivityResponse>> findAll(Integer limit, String after) {
+        TransactionLogger.logInput(after);
+        return PageUtil.decodeCursor(after)
+                .flatMapMany(lastId -> activityRepository.findPage(lastId, limit + 1))
                 .map(activityMapper::activityToActivityResponse)
-                .doOnNext(response ->
-                        LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), response.toString()))
-                .doOnError(error -> LoggerUtil.logError(headerRequest.getTransactionId(), error));
+                .collectList()
+                .map(responses -> PageUtil.toPage(responses, limit, ActivityResponse::getId))
+                .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+                .doOnError(TransactionLogger::logError);
     }
 
     /**
-     * Finds all activities.
+     * Finds a page of activities ordered by ID, selecting only the columns behind the requested fields. The fields
+     * are read from the partial entities directly, without building a full ActivityResponse per row.
      *
-     * @param headerRequest The request header containing metadata for the request.
-     * @return A Flux emitting the ActivityResponses for all found activities.
+     * @param limit  The maximum number of activities to return.
+     * @param after  The cursor returned by the previous page, or null for the first page.
+     * @param fields The comma separated names of the ActivityResponse fields to return.
+     * @return A Mono emitting the page of requested fields and the cursor of the next page.
      */
     @Override
-    public Flux<ActivityResponse> findAll(HeaderRequest headerRequest) {
-        LoggerUtil.logInput(headerRequest.getTransactionId(), headerRequest.toString(), null);
-        return activityRepository.findAll()
+    public Mono<PageResponse<Map<String, Object>>> findAllFields(Integer limit, String after, String fields) {
+        TransactionLogger.logInput(fields);
+        return ACTIVITY_FIELDS.select(fields)
+                .flatMap(selection -> PageUtil.decodeCursor(after)
+                        .flatMapMany(lastId -> activityRepository.findPage(lastId, limit + 1, selection.columns()))
+                        .collectList()
+                        .map(activities -> PageUtil.toPage(activities, limit, Activity::getId))
+                        .map(selection::projectPage))
+                .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+                .doOnError(TransactionLogger::logError);
+    }
+
+    /**
+     * Finds a page of activities ordered by ID matching every given filter.
+     *
+     * @param filter The project, HourBag and UserActivity to filter by; null values are ignored.
+     * @param limit  The maximum number of activities to return.
+     * @param after  The cursor returned by the previous page, or null for the first page.
+     * @return A Mono emitting the page of ActivityResponses and the cursor of the next page.
+     */
+    @Override
+    public Mono<PageResponse<ActivityResponse>> findAllByFilter(ActivityFilterRequest filter, Integer limit,
+                                                                String after) {
+        TransactionLogger.logInput(filter);
+        return PageUtil.decodeCursor(after)
+                .flatMapMany(lastId -> activityRepository.findPage(filter.getProjectId(), filter.getHourBagId(),
+                        filter.getUserActivityId(), lastId, limit + 1))
                 .map(activityMapper::activityToActivityResponse)
-                .doOnNext(response ->
-                        LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), response.toString()))
-                .doOnError(error -> LoggerUtil.logError(headerRequest.getTransactionId(), error));
+                .collectList()
+                .map(responses -> PageUtil.toPage(responses, limit, ActivityResponse::getId))
+                .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+                .doOnError(TransactionLogger::logError);
     }
 
     /**
-     * Creates a new activity.
+     * Streams every activity ordered by ID, reading them in keyset batches paced by the client.
+     *
+     * @return A Flux emitting the ActivityResponses one by one.
+     */
+    @Override
+    public Flux<ActivityResponse> findAllStream() {
+        TransactionLogger.logInput(null);
+        return PageUtil.streamAll(activityRepository::findPage, Activity::getId, streamingProperties.getBatchSize())
+                .map(activityMapper::activityToActivityResponse)
+                .transform(streamLogger.output("activity-listar"));
+    }
+
+    /**
+     * Exports every activity with its HourBag cost as CSV. Each row is written into its own pooled buffer as soon
+     * as the driver hands it over, and the buffers are joined without copying into one write every
+     * {@code rowsPerBuffer} rows. Cancelling the subscription, e.g. when the client disconnects, cancels the query
+     * and releases the buffers not written yet. The caller permit is released however the export ends.
+     *
+     * @param caller        The key of the caller the export is rate limited by.
+     * @param bufferFactory The factory of the response buffers.
+     * @return A Flux emitting the CSV content, or a TOO_MANY_REQUESTS error if the caller is over its limits.
+     */
+    @Override
+    public Flux<DataBuffer> findAllCostsCsv(String caller, DataBufferFactory bufferFactory) {
+        TransactionLogger.logInput(caller);
+        AtomicLong rows = new AtomicLong();
+        return Flux.using(
+                        () -> activityExportRateLimiter.tryAcquire(caller)
+                                .orElseThrow(() -> BusinessException.createException(ConstantMessage.ACTIVITY_EXPORT_ERROR,
+                                        List.of(ConstantMessage.ACTIVITY_EXPORT_RATE_LIMITED), HttpStatus.TOO_MANY_REQUESTS)),
+                        permit -> Flux.concat(
+                                        Mono.fromSupplier(() -> CsvUtil.writeLine(
+                                                bufferFactory.allocateBuffer(EXPORT_LINE_CAPACITY), EXPORT_HEADER)),
+                                        activityRepository.findAllWithCost(activityExportProperties.getFetchSize(),
+                                                        (row, metadata) -> CsvUtil.writeLine(
+                                                                bufferFactory.allocateBuffer(EXPORT_LINE_CAPACITY),
+                                                                row.get("id", Long.class),
+                                                                row.get("codigo", String.class),
+                                                                row.get("descripcion", String.class),
+                                                                row.get("proyecto_id", Long.class),
+                                                                row.get("proyecto_nombre", String.class),
+                                                                row.get("bolsa_hora_id", Long.class),
+                                                                row.get("horas_esfuerzo", Integer.class),
+                                                                row.get("costo_hora", BigDecimal.class),
+                                                                row.get("costo", BigDecimal.class)))
+                                                .doOnNext(line -> rows.incrementAndGet()))
+                                .buffer(activityExportProperties.getRowsPerBuffer())
+                                .map(bufferFactory::join),
+                        CallerRateLimiter.Permit::release)
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                .doOnComplete(() -> TransactionLogger.logOutput(String.valueOf(rows.get())))
+                .doOnError(TransactionLogger::logError);
+    }
+
+    /**
+     * Creates a new activity and consumes its effort hours from its HourBag in the same transaction.
      *
-     * @param headerRequest   The request header containing metadata for the request.
      * @param activityRequest The request containing the data for the activity to create.
-     * @return A Mono emitting the ActivityResponse for the created activity.
+     * @return A Mono emitting the ActivityResponse for the created activity, or an error if the HourBag
+     *     does not have enough hours available.
      */
     @Override
-    public Mono<ActivityResponse> create(HeaderRequest headerRequest, ActivityCreateRequest activityRequest) {
-        LoggerUtil.logInput(headerRequest.getTransactionId(), headerRequest.toString(), activityRequest);
-        return activityRepository.save(activityMapper.activityCreateRequestToActivity(activityRequest))
+    public Mono<ActivityResponse> create(ActivityCreateRequest activityRequest) {
+        TransactionLogger.logInput(activityRequest);
+        Activity activity = activityMapper.activityCreateRequestToActivity(activityRequest);
+        Map<Long, Integer> hoursByHourBag = new TreeMap<>();
+        addHours(hoursByHourBag, activity.getHourBagId(), activity.getEffortHours());
+        return adjustConsumedHours(hoursByHourBag)
+                .then(activityRepository.save(activity))
+                .flatMap(saved -> entityVersions.bump(CacheEntity.HOUR_BAG).thenReturn(saved))
+                .as(transactionalOperator::transactional)
                 .map(activityMapper::activityToActivityResponse)
-                .doOnNext(response ->
-                        LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), response.toString()))
-                .doOnError(error -> LoggerUtil.logError(headerRequest.getTransactionId(), error));
+                .flatMap(response -> cacheInvalidationBus.publish(CacheEntity.ACTIVITY, response.getId())
+                        .then(cacheInvalidationBus.publish(CacheEntity.HOUR_BAG, response.getHourBagId()))
+                        .thenReturn(response))
+                .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+                .doOnError(TransactionLogger::logError);
     }
 
     /**
-     * Updates an existing activity.
+     * Creates a list of activities in a single transaction.
+     * The activities are written in chunks of {@code app.activity-batch.chunk-size} rows, each chunk as one
+     * batched INSERT ... RETURNING statement, and the chunks are written one after the other.
+     * The effort hours are first consumed from each HourBag with one update per bag.
+     *
+     * @param activityRequests The requests containing the data for the activities to create.
+     * @return A Mono emitting the generated IDs in the same order as the requests.
+     */
+    @Override
+    public Mono<ActivityBatchResponse> createBatch(List<ActivityCreateRequest> activityRequests) {
+        TransactionLogger.logInput(activityRequests.size());
+        List<Activity> activities = activityRequests.stream()
+                .map(activityMapper::activityCreateRequestToActivity)
+                .toList();
+        Map<Long, Integer> hoursByHourBag = new TreeMap<>();
+        activities.forEach(activity -> addHours(hoursByHourBag, activity.getHourBagId(), activity.getEffortHours()));
+        return adjustConsumedHours(hoursByHourBag)
+                .thenMany(Flux.fromIterable(activities))
+                .buffer(activityBatchProperties.getChunkSize())
+                .concatMap(this::insertChunk)
+                .collectList()
+                .flatMap(ids -> entityVersions.bump(CacheEntity.HOUR_BAG).thenReturn(ids))
+                .as(transactionalOperator::transactional)
+                .map(ids -> ActivityBatchResponse.builder()
+                        .count(ids.size())
+                        .ids(ids)
+                        .build())
+                .flatMap(response -> cacheInvalidationBus.publish(CacheEntity.ACTIVITY, null)
+                        .then(cacheInvalidationBus.publish(CacheEntity.HOUR_BAG, null))
+                        .thenReturn(response))
+                .doOnNext(response -> TransactionLogger.logOutput(String.valueOf(response.getCount())))
+                .doOnError(TransactionLogger::logError);
+    }
+
+    /**
+     * Imports activities as they are read from the upload. Each chunk of valid rows consumes its hours and is
+     * inserted in its own transaction, so a chunk whose HourBag has not enough hours is rejected as a whole
+     * without undoing the chunks already imported.
+     *
+     * @param activityRequests The activities of the upload, in order.
+     * @return A Mono emitting the imported count and the rejected rows.
+     */
+    @Override
+    public Mono<ImportResponse> importActivities(Flux<ActivityCreateRequest> activityRequests) {
+        TransactionLogger.logInput(null);
+        return ImportUtil.importRows(activityRequests, validator, importProperties.getChunkSize(),
+                        importProperties.getMaxReportedErrors(), this::importChunk)
+                .flatMap(response -> cacheInvalidationBus.publish(CacheEntity.ACTIVITY, null)
+                        .then(cacheInvalidationBus.publish(CacheEntity.HOUR_BAG, null))
+                        .thenReturn(response))
+                .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+                .doOnError(TransactionLogger::logError);
+    }
+
+    /**
+     * Updates an existing activity and moves the difference of effort hours between its HourBags
+     * in the same transaction.
      *
-     * @param headerRequest   The request header containing metadata for the request.
      * @param activityRequest The request containing the updated data for the activity.
-     * @return A Mono emitting the ActivityResponse for the updated activity.
+     * @return A Mono emitting the ActivityResponse for the updated activity, or an error if the HourBag
+     *     does not have enough hours available.
      */
     @Override
-    public Mono<ActivityResponse> update(HeaderRequest headerRequest, ActivityUpdateRequest activityRequest) {
-        LoggerUtil.logInput(headerRequest.getTransactionId(), headerRequest.toString(), activityRequest);
-        return activityRepository.findById(activityRequest.getId())
-                .switchIfEmpty(Mono.error(BusinessException.createException(ConstantMessage.ACTIVITY_UPDATE_ERROR,
-                        List.of(ConstantMessage.ACTIVITY_NOT_FOUND), HttpStatus.NOT_FOUND)))
-                .map(activity -> activityMapper.activityUpdateRequestToActivity(activity, activityRequest))
+    public Mono<ActivityResponse> update(ActivityUpdateRequest activityRequest) {
+        TransactionLogger.logInput(activityRequest);
+        return activityRepository.findByIdForUpdate(activityRequest.getId())
+                .switchIfEmpty(ACTIVITY_UPDATE_NOT_FOUND)
+                .flatMap(activity -> {
+                    Map<Long, Integer> hoursByHourBag = new TreeMap<>();
+                    addHours(hoursByHourBag, activity.getHourBagId(), negate(activity.getEffortHours()));
+                    addHours(hoursByHourBag, activityRequest.getHourBagId(), activityRequest.getEffortHours());
+                    return adjustConsumedHours(hoursByHourBag)
+                            .thenReturn(activityMapper.activityUpdateRequestToActivity(activity, activityRequest));
+                })
                 .flatMap(activityRepository::save)
+                .flatMap(saved -> entityVersions.bump(CacheEntity.HOUR_BAG).thenReturn(saved))
+                .as(transactionalOperator::transactional)
                 .map(activityMapper::activityToActivityResponse)
-                .doOnNext(response ->
-                        LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), response.toString()))
-                .doOnError(error -> LoggerUtil.logError(headerRequest.getTransactionId(), error));
+                .flatMap(response -> cacheInvalidationBus.publish(CacheEntity.ACTIVITY, response.getId())
+                        .then(cacheInvalidationBus.publish(CacheEntity.HOUR_BAG, null))
+                        .thenReturn(response))
+                .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+                .doOnError(TransactionLogger::logError);
     }
 
     /**
-     * Deletes an activity by its ID.
+     * Deletes an activity by its ID and releases its effort hours from its HourBag in the same transaction.
      *
-     * @param headerRequest The request header containing metadata for the request.
-     * @param id            The ID of the activity to delete.
+     * @param id The ID of the activity to delete.
      * @return A Mono emitting completion signal once the activity is deleted, or Mono.empty() if no activity was found.
      */
     @Override
-    public Mono<Void> delete(HeaderRequest headerRequest, Long id) {
-        LoggerUtil.logInput(headerRequest.getTransactionId(), headerRequest.toString(), id);
-        return activityRepository.findById(id)
-                .switchIfEmpty(Mono.error(BusinessException.createException(ConstantMessage.ACTIVITY_DELETE_ERROR,
-                        List.of(ConstantMessage.ACTIVITY_NOT_FOUND), HttpStatus.NOT_FOUND)))
-                .flatMap(activityRepository::delete)
-                .doOnSuccess(response ->
-                        LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), null))
-                .doOnError(error -> LoggerUtil.logError(headerRequest.getTransactionId(), error));
+    public Mono<Void> delete(Long id) {
+        TransactionLogger.logInput(id);
+        return activityRepository.removeById(id)
+                .switchIfEmpty(ACTIVITY_DELETE_NOT_FOUND)
+                .flatMap(activity -> {
+                    Map<Long, Integer> hoursByHourBag = new TreeMap<>();
+                    addHours(hoursByHourBag, activity.getHourBagId(), negate(activity.getEffortHours()));
+                    return adjustConsumedHours(hoursByHourBag);
+                })
+                .then(entityVersions.bump(CacheEntity.HOUR_BAG))
+                .as(transactionalOperator::transactional)
+                .then(cacheInvalidationBus.publish(CacheEntity.ACTIVITY, id)
+                        .then(cacheInvalidationBus.publish(CacheEntity.HOUR_BAG, null)))
+                .doOnSuccess(response -> TransactionLogger.logOutput(null))
+                .doOnError(TransactionLogger::logError);
+    }
+
+    /**
+     * Applies the hour adjustments to their HourBags, one conditional update per bag. The bags are visited
+     * in ID order so that concurrent transactions always lock them in the same order.
+     *
+     * @param hoursByHourBag The hours to consume, or negative hours to release, by HourBag ID.
+     * @return A Mono completing once every bag was adjusted, or an error if one of them has not enough hours.
+     */
+    private Mono<Void> adjustConsumedHours(Map<Long, Integer> hoursByHourBag) {
+        return Flux.fromIterable(hoursByHourBag.entrySet())
+                .filter(entry -> entry.getValue() != 0)
+                .concatMap(entry -> hourBagRepository.adjustConsumedHours(entry.getKey(), entry.getValue())
+                        .switchIfEmpty(HOUR_BAG_INSUFFICIENT_HOURS))
+                .then();
+    }
+
+    private static void addHours(Map<Long, Integer> hoursByHourBag, Long hourBagId, Integer hours) {
+        if (hourBagId != null && hours != null) {
+            hoursByHourBag.merge(hourBagId, hours, Integer::sum);
+        }
+    }
+
+    private static Integer negate(Integer hours) {
+        return Objects.isNull(hours) ? null : -hours;
+    }
+
+    /**
+     * Consumes the hours of one imported chunk and inserts it in the same transaction.
+     *
+     * @param activityRequests The valid rows of the chunk.
+     * @return A Mono emitting the number of activities inserted.
+     */
+    private Mono<Long> importChunk(List<ActivityCreateRequest> activityRequests) {
+        List<Activity> activities = activityRequests.stream()
+                .map(activityMapper::activityCreateRequestToActivity)
+                .toList();
+        Map<Long, Integer> hoursByHourBag = new TreeMap<>();
+        activities.forEach(activity -> addHours(hoursByHourBag, activity.getHourBagId(), activity.getEffortHours()));
+        return adjustConsumedHours(hoursByHourBag)
+                .thenMany(insertChunk(activities))
+                .count()
+                .flatMap(count -> entityVersions.bump(CacheEntity.HOUR_BAG).thenReturn(count))
+                .as(transactionalOperator::transactional);
+    }
+
+    /**
+     * Inserts one chunk of activities and records its duration and size.
+     *
+     * @param chunk The activities of the chunk.
+     * @return A Flux emitting the generated IDs of the chunk in order.
+     */
+    private Flux<Long> insertChunk(List<Activity> chunk) {
+        return Flux.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return activityRepository.insertAll(chunk)
+                    .doOnComplete(() -> {
+                        sample.stop(meterRegistry.timer("activity.batch.chunk.duration"));
+                        meterRegistry.summary("activity.batch.chunk.size").record(chunk.size());
+                    });
+        });
     }
 }
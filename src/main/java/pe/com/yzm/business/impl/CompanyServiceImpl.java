@@ -1,18 +1,33 @@
 package pe.com.yzm.business.impl;
 
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import pe.com.yzm.business.CompanyService;
-import pe.com.yzm.core.exception.BusinessException;
-import pe.com.yzm.core.logger.LoggerUtil;
-import pe.com.yzm.core.model.HeaderRequest;
+import pe.com.yzm.cache.CacheEntity;
+import pe.com.yzm.cache.CacheInvalidationBus;
+import pe.com.yzm.cache.EntityVersions;
+import pe.com.yzm.cache.SingleFlight;
+import pe.com.yzm.config.ImportProperties;
+import pe.com.yzm.datasource.DataSourceRoute;
+import pe.com.yzm.config.StreamingProperties;
 import pe.com.yzm.expose.request.CompanyCreateRequest;
+import pe.com.yzm.expose.response.BatchResponse;
 import pe.com.yzm.expose.response.CompanyResponse;
+import pe.com.yzm.expose.response.ImportResponse;
+import pe.com.yzm.expose.response.PageResponse;
 import pe.com.yzm.expose.request.CompanyUpdateRequest;
+import pe.com.yzm.logging.StreamLogger;
+import pe.com.yzm.logging.TransactionLogger;
 import pe.com.yzm.mapper.CompanyMapper;
+import pe.com.yzm.model.Company;
 import pe.com.yzm.repository.CompanyRepository;
+import pe.com.yzm.util.BatchUtil;
 import pe.com.yzm.util.ConstantMessage;
+import pe.com.yzm.util.ErrorUtil;
+import pe.com.yzm.util.ImportUtil;
+import pe.com.yzm.util.PageUtil;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -35,116 +50,189 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CompanyServiceImpl implements CompanyService {
 
+    private static final Mono<Company> COMPANY_GET_NOT_FOUND = ErrorUtil.notFound(ConstantMessage.COMPANY_GET_ERROR,
+            ConstantMessage.COMPANY_NOT_FOUND);
+    private static final Mono<Company> COMPANY_UPDATE_NOT_FOUND = ErrorUtil.notFound(ConstantMessage.COMPANY_UPDATE_ERROR,
+            ConstantMessage.COMPANY_NOT_FOUND);
+    private static final Mono<Integer> COMPANY_DELETE_NOT_FOUND = ErrorUtil.notFound(ConstantMessage.COMPANY_DELETE_ERROR,
+            ConstantMessage.COMPANY_NOT_FOUND);
+
+    private final SingleFlight<Long, Company> companyFlights = new SingleFlight<>(SingleFlight.DEFAULT_MAX_KEYS);
+
     // The CompanyRepository instance used for database operations
     private final CompanyRepository companyRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final EntityVersions entityVersions;
     private final CompanyMapper companyMapper;
+    private final StreamingProperties streamingProperties;
+    private final StreamLogger streamLogger;
+    private final ImportProperties importProperties;
+    private final Validator validator;
+    private final TransactionalOperator transactionalOperator;
 
     /**
      * This method is used to find a company by its ID.
      *
-     * @param headerRequest The request header containing transaction details
-     * @param id            The ID of the company to be found
+     * @param id The ID of the company to be found
      * @return A Mono of CompanyResponse if the company is found, else throws a BusinessException
      */
     @Override
-    public Mono<CompanyResponse> findByCompanyId(HeaderRequest headerRequest, Long id) {
-        LoggerUtil.logInput(headerRequest.getTransactionId(), headerRequest.toString(), id);
-        return companyRepository.findById(id)
-                .switchIfEmpty(Mono.error(BusinessException.createException(ConstantMessage.COMPANY_GET_ERROR,
-                        List.of(ConstantMessage.COMPANY_NOT_FOUND), HttpStatus.NOT_FOUND)))
+    public Mono<CompanyResponse> findByCompanyId(Long id) {
+        TransactionLogger.logInput(id);
+        return companyFlights.execute(id, () -> Mono.deferContextual(context ->
+                        DataSourceRoute.bypassesSharedCaches(context)
+                                ? companyRepository.findUncachedById(id)
+                                : companyRepository.findById(id)))
+                .switchIfEmpty(COMPANY_GET_NOT_FOUND)
                 .map(companyMapper::companytoCompanyResponse)
-                .doOnNext(response ->
-                        LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), response.toString()))
-                .doOnError(error -> LoggerUtil.logError(headerRequest.getTransactionId(), error));
+                .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+                .doOnError(TransactionLogger::logError);
 
     }
 
     /**
-     * This method is used to find all companies.
+     * Finds several companies with a single {@code id = ANY(:ids)} query.
      *
-     * @param headerRequest The request header containing transaction details
-     * @return A Flux of CompanyResponse containing all companies
+     * @param ids The IDs to find.
+     * @return A Mono emitting the found CompanyResponses in request order and the IDs that were not found.
+     */
+    @Override
+    public Mono<BatchResponse<CompanyResponse>> findByCompanyIds(List<Long> ids) {
+        TransactionLogger.logInput(ids);
+        return companyRepository.findByIds(BatchUtil.toArray(ids))
+                .map(companyMapper::companytoCompanyResponse)
+                .collectList()
+                .map(responses -> BatchUtil.inRequestOrder(ids, responses, CompanyResponse::getId))
+                .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+                .doOnError(TransactionLogger::logError);
+    }
+
+    /**
+     * This method is used to find a page of companies ordered by ID.
+     *
+     * @param limit The maximum number of companies to return
+     * @param after The cursor returned by the previous page, or null for the first page
+     * @return A Mono of PageResponse containing the companies and the cursor of the next page
+     */
+    @Override
+    public Mono<PageResponse<CompanyResponse>> findAllCompany(Integer limit, String after) {
+        TransactionLogger.logInput(after);
+        return PageUtil.decodeCursor(after)
+                .flatMapMany(lastId -> companyRepository.findPage(lastId, limit + 1))
+                .map(companyMapper::companytoCompanyResponse)
+                .collectList()
+                .map(responses -> PageUtil.toPage(responses, limit, CompanyResponse::getId))
+                .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+                .doOnError(TransactionLogger::logError);
+    }
+
+    /**
+     * Streams every company ordered by ID, reading them in keyset batches paced by the client.
+     *
+     * @return A Flux emitting the CompanyResponses one by one.
      */
     @Override
-    public Flux<CompanyResponse> findAllCompany(HeaderRequest headerRequest) {
-        LoggerUtil.logInput(headerRequest.getTransactionId(), headerRequest.toString(), null);
-        return companyRepository.findAll()
+    public Flux<CompanyResponse> findAllCompanyStream() {
+        TransactionLogger.logInput(null);
+        return PageUtil.streamAll(companyRepository::findPage, Company::getId, streamingProperties.getBatchSize())
                 .map(companyMapper::companytoCompanyResponse)
-                .doOnNext(response ->
-                        LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), response.toString()))
-                .doOnError(error -> LoggerUtil.logError(headerRequest.getTransactionId(), error));
+                .transform(streamLogger.output("company-listar"));
     }
 
     /**
      * This method is used to find all companies.
      *
-     * @param headerRequest The request header containing transaction details
      * @return A Flux of CompanyResponse containing all companies
      */
     @Override
-    public Flux<CompanyResponse> findAllCompanyByUser(HeaderRequest headerRequest, Long userId) {
-        LoggerUtil.logInput(headerRequest.getTransactionId(), headerRequest.toString(), null);
-        return companyRepository.findAllByUserId(userId)
+    public Flux<CompanyResponse> findAllCompanyByUser(Long userId) {
+        TransactionLogger.logInput(null);
+        return Flux.deferContextual(context -> DataSourceRoute.bypassesSharedCaches(context)
+                        ? companyRepository.findUncachedAllByUserId(userId)
+                        : companyRepository.findAllByUserId(userId))
                 .map(companyMapper::companytoCompanyResponse)
-                .doOnNext(response ->
-                        LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), response.toString()))
-                .doOnError(error -> LoggerUtil.logError(headerRequest.getTransactionId(), error));
+                .transform(streamLogger.output("company-listar-usuario"));
     }
 
     /**
      * This method is used to save a new company.
      *
-     * @param headerRequest  The request header containing transaction details
      * @param companyRequest The request containing the details of the company to be saved
      * @return A Mono of CompanyResponse containing the saved company details
      */
     @Override
-    public Mono<CompanyResponse> saveCompany(HeaderRequest headerRequest, CompanyCreateRequest companyRequest) {
-        LoggerUtil.logInput(headerRequest.getTransactionId(), headerRequest.toString(), companyRequest);
+    public Mono<CompanyResponse> saveCompany(CompanyCreateRequest companyRequest) {
+        TransactionLogger.logInput(companyRequest);
         return companyRepository.save(companyMapper.companyCreateRequestToCompany(companyRequest))
+                .flatMap(saved -> entityVersions.bump(CacheEntity.COMPANY).thenReturn(saved))
+                .as(transactionalOperator::transactional)
                 .map(companyMapper::companytoCompanyResponse)
-                .doOnNext(response ->
-                        LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), response.toString()))
-                .doOnError(error -> LoggerUtil.logError(headerRequest.getTransactionId(), error));
+                .flatMap(response -> cacheInvalidationBus.publish(CacheEntity.COMPANY, response.getId())
+                        .thenReturn(response))
+                .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+                .doOnError(TransactionLogger::logError);
+    }
+
+    /**
+     * This method is used to import companies. Each chunk of valid rows is inserted with one batched statement
+     * in its own transaction, and the caches are invalidated once the upload has been read.
+     *
+     * @param companyRequests The companies of the upload, in order
+     * @return A Mono of ImportResponse with the imported count and the rejected rows
+     */
+    @Override
+    public Mono<ImportResponse> importCompanies(Flux<CompanyCreateRequest> companyRequests) {
+        TransactionLogger.logInput(null);
+        return ImportUtil.importRows(companyRequests, validator, importProperties.getChunkSize(),
+                        importProperties.getMaxReportedErrors(),
+                        chunk -> companyRepository.insertAll(chunk.stream()
+                                        .map(companyMapper::companyCreateRequestToCompany)
+                                        .toList())
+                                .count()
+                                .flatMap(count -> entityVersions.bump(CacheEntity.COMPANY).thenReturn(count))
+                                .as(transactionalOperator::transactional))
+                .flatMap(response -> cacheInvalidationBus.publish(CacheEntity.COMPANY, null)
+                        .thenReturn(response))
+                .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+                .doOnError(TransactionLogger::logError);
     }
 
     /**
      * This method is used to update an existing company.
      *
-     * @param headerRequest  The request header containing transaction details
      * @param companyRequest The request containing the updated details of the company
      * @return A Mono of CompanyResponse containing the updated company details
      */
     @Override
-    public Mono<CompanyResponse> updateCompany(HeaderRequest headerRequest, CompanyUpdateRequest companyRequest) {
-        LoggerUtil.logInput(headerRequest.getTransactionId(), headerRequest.toString(), companyRequest);
-        return companyRepository.findById(companyRequest.getId())
-                .switchIfEmpty(Mono.error(BusinessException.createException(ConstantMessage.COMPANY_UPDATE_ERROR,
-                        List.of(ConstantMessage.COMPANY_NOT_FOUND), HttpStatus.NOT_FOUND)))
-                .map(company -> companyMapper.companyUpdateRequestToCompany(company, companyRequest))
-                .flatMap(companyRepository::save)
+    public Mono<CompanyResponse> updateCompany(CompanyUpdateRequest companyRequest) {
+        TransactionLogger.logInput(companyRequest);
+        return companyRepository.updateById(companyRequest.getId(), companyRequest.getName(), companyRequest.getUserId())
+                .switchIfEmpty(COMPANY_UPDATE_NOT_FOUND)
+                .flatMap(updated -> entityVersions.bump(CacheEntity.COMPANY).thenReturn(updated))
+                .as(transactionalOperator::transactional)
                 .map(companyMapper::companytoCompanyResponse)
-                .doOnNext(response ->
-                        LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), response.toString()))
-                .doOnError(error -> LoggerUtil.logError(headerRequest.getTransactionId(), error));
+                .flatMap(response -> cacheInvalidationBus.publish(CacheEntity.COMPANY, response.getId())
+                        .thenReturn(response))
+                .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+                .doOnError(TransactionLogger::logError);
     }
 
     /**
      * This method is used to delete a company by its ID.
      *
-     * @param headerRequest The request header containing transaction details
-     * @param id            The ID of the company to be deleted
+     * @param id The ID of the company to be deleted
      * @return A Mono of Void if the company is successfully deleted, else throws a BusinessException
      */
     @Override
-    public Mono<Void> deleteCompany(HeaderRequest headerRequest, Long id) {
-        LoggerUtil.logInput(headerRequest.getTransactionId(), headerRequest.toString(), id);
-        return companyRepository.findById(id)
-                .switchIfEmpty(Mono.error(BusinessException.createException(ConstantMessage.COMPANY_DELETE_ERROR,
-                        List.of(ConstantMessage.COMPANY_NOT_FOUND), HttpStatus.NOT_FOUND)))
-                .flatMap(companyRepository::delete)
-                .doOnSuccess(response ->
-                        LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), null))
-                .doOnError(error -> LoggerUtil.logError(headerRequest.getTransactionId(), error));
+    public Mono<Void> deleteCompany(Long id) {
+        TransactionLogger.logInput(id);
+        return companyRepository.removeById(id)
+                .filter(deleted -> deleted > 0)
+                .switchIfEmpty(COMPANY_DELETE_NOT_FOUND)
+                .then(entityVersions.bump(CacheEntity.COMPANY))
+                .as(transactionalOperator::transactional)
+                .then(cacheInvalidationBus.publish(CacheEntity.COMPANY, id))
+                .doOnSuccess(response -> TransactionLogger.logOutput(null))
+                .doOnError(TransactionLogger::logError);
     }
 }
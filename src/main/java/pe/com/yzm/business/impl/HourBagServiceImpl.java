@@ -3,22 +3,29 @@ package pe.com.yzm.business.impl;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import pe.com.yzm.business.HourBagService;
-import pe.com.yzm.core.exception.BusinessException;
-import pe.com.yzm.core.logger.LoggerUtil;
-import pe.com.yzm.core.model.HeaderRequest;
+import pe.com.yzm.cache.CacheEntity;
+import pe.com.yzm.cache.CacheInvalidationBus;
+import pe.com.yzm.cache.EntityVersions;
+import pe.com.yzm.config.StreamingProperties;
 import pe.com.yzm.expose.request.HourBagCreateRequest;
 import pe.com.yzm.expose.request.HourBagUpdateRequest;
+import pe.com.yzm.expose.response.BatchResponse;
 import pe.com.yzm.expose.response.HourBagResponse;
+import pe.com.yzm.expose.response.PageResponse;
+import pe.com.yzm.logging.StreamLogger;
+import pe.com.yzm.logging.TransactionLogger;
 import pe.com.yzm.mapper.HourBagMapper;
 import pe.com.yzm.model.HourBag;
-import pe.com.yzm.repository.ActivityRepository;
 import pe.com.yzm.repository.HourBagRepository;
+import pe.com.yzm.util.BatchUtil;
 import pe.com.yzm.util.ConstantMessage;
+import pe.com.yzm.util.ErrorUtil;
+import pe.com.yzm.util.PageUtil;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -38,162 +45,152 @@ import java.util.List;
 @RequiredArgsConstructor
 public class HourBagServiceImpl implements HourBagService {
 
+    private static final Mono<HourBag> HOUR_BAG_UPDATE_REJECTED = ErrorUtil.lazyError(ConstantMessage.HOUR_BAG_UPDATE_ERROR,
+            ConstantMessage.HOUR_BAG_CONSUMED_HOUR_ERROR, HttpStatus.BAD_REQUEST);
+    private static final Mono<Integer> HOUR_BAG_DELETE_REJECTED = ErrorUtil.lazyError(ConstantMessage.HOUR_BAG_DELETE_ERROR,
+            ConstantMessage.HOUR_BAG_DELETE_ERROR, HttpStatus.BAD_REQUEST);
+
     private final HourBagRepository hourBagRepository;
-    private final ActivityRepository activityRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final EntityVersions entityVersions;
     private final HourBagMapper hourBagMapper;
+    private final StreamingProperties streamingProperties;
+    private final StreamLogger streamLogger;
+    private final TransactionalOperator transactionalOperator;
 
     /**
      * Finds all active HourBags.
      *
-     * @param headerRequest The request header containing metadata for the request.
      * @return A Flux emitting the HourBagResponses for all found active HourBags.
      */
-    public Flux<HourBagResponse> findAllActive(HeaderRequest headerRequest) {
-        LoggerUtil.logInput(headerRequest.getTransactionId(), headerRequest.toString(), null);
+    @Override
+    public Flux<HourBagResponse> findAllActive() {
+        TransactionLogger.logInput(null);
         return hourBagRepository.findByStatus(Boolean.TRUE)
                 .map(hourBagMapper::hourBagToHourBagResponse)
-                .doOnNext(response ->
-                        LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), response.toString()))
-                .doOnError(error -> LoggerUtil.logError(headerRequest.getTransactionId(), error));
+                .transform(streamLogger.output("hour-bag-listar-activos"));
     }
 
     /**
-     * Finds all HourBags.
+     * Finds several HourBags with a single {@code id = ANY(:ids)} query.
      *
-     * @param headerRequest The request header containing metadata for the request.
-     * @return A Flux emitting the HourBagResponses for all found HourBags.
+     * @param ids The IDs to find.
+     * @return A Mono emitting the found HourBagResponses in request order and the IDs that were not found.
      */
     @Override
-    public Flux<HourBagResponse> findAll(HeaderRequest headerRequest) {
-        LoggerUtil.logInput(headerRequest.getTransactionId(), headerRequest.toString(), null);
-        return hourBagRepository.findAll()
+    public Mono<BatchResponse<HourBagResponse>> findByIds(List<Long> ids) {
+        TransactionLogger.logInput(ids);
+        return hourBagRepository.findByIds(BatchUtil.toArray(ids))
                 .map(hourBagMapper::hourBagToHourBagResponse)
-                .doOnNext(response ->
-                        LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), response.toString()))
-                .doOnError(error -> LoggerUtil.logError(headerRequest.getTransactionId(), error));
+                .collectList()
+                .map(responses -> BatchUtil.inRequestOrder(ids, responses, HourBagResponse::getId))
+                .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+                .doOnError(TransactionLogger::logError);
     }
 
     /**
-     * Creates a new HourBag.
+     * Finds a page of HourBags ordered by ID.
      *
-     * @param headerRequest  The request header containing metadata for the request.
-     * @param hourBagRequest The request containing the data for the HourBag to create.
-     * @return A Mono emitting the HourBagResponse for the created HourBag.
+     * @param limit The maximum number of HourBags to return.
+     * @param after The cursor returned by the previous page, or null for the first page.
+     * @return A Mono emitting the page of HourBagResponses and the cursor of the next page.
      */
     @Override
-    public Mono<HourBagResponse> create(HeaderRequest headerRequest, HourBagCreateRequest hourBagRequest) {
-        LoggerUtil.logInput(headerRequest.getTransactionId(), headerRequest.toString(), hourBagRequest);
-        return hourBagRepository.save(hourBagMapper.hourBagCreateRequestToHourBag(hourBagRequest))
+    public Mono<PageResponse<HourBagResponse>> findAll(Integer limit, String after) {
+        TransactionLogger.logInput(after);
+        return PageUtil.decodeCursor(after)
+                .flatMapMany(lastId -> hourBagRepository.findPage(lastId, limit + 1))
                 .map(hourBagMapper::hourBagToHourBagResponse)
-                .doOnNext(response ->
-                        LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), response.toString()))
-                .doOnError(error -> LoggerUtil.logError(headerRequest.getTransactionId(), error));
+                .collectList()
+                .map(responses -> PageUtil.toPage(responses, limit, HourBagResponse::getId))
+                .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+                .doOnError(TransactionLogger::logError);
     }
 
     /**
-     * Updates an existing HourBag.
+     * Streams every HourBag ordered by ID, reading them in keyset batches paced by the client.
      *
-     * @param headerRequest  The request header containing metadata for the request.
-     * @param hourBagRequest The request containing the updated data for the HourBag.
-     * @return A Mono emitting the HourBagResponse for the updated HourBag.
+     * @return A Flux emitting the HourBagResponses one by one.
      */
     @Override
-    public Mono<HourBagResponse> update(HeaderRequest headerRequest, HourBagUpdateRequest hourBagRequest) {
-        LoggerUtil.logInput(headerRequest.getTransactionId(), headerRequest.toString(), hourBagRequest);
-        return getHourBag(hourBagRequest.getId())
-                .flatMap(hourBag -> validateUpdate(hourBag, hourBagRequest))
-                .map(hourBag -> hourBagMapper.hourBagUpdateRequestToHourBag(hourBag, hourBagRequest))
-                .flatMap(hourBagRepository::save)
+    public Flux<HourBagResponse> findAllStream() {
+        TransactionLogger.logInput(null);
+        return PageUtil.streamAll(hourBagRepository::findPage, HourBag::getId, streamingProperties.getBatchSize())
                 .map(hourBagMapper::hourBagToHourBagResponse)
-                .doOnNext(response ->
-                        LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), response.toString()))
-                .doOnError(error -> LoggerUtil.logError(headerRequest.getTransactionId(), error));
+                .transform(streamLogger.output("hour-bag-listar"));
     }
 
     /**
-     * Deletes a HourBag by its ID.
+     * Creates a new HourBag.
      *
-     * @param headerRequest The request header containing metadata for the request.
-     * @param id            The ID of the HourBag to delete.
-     * @return A Mono emitting completion signal once the HourBag is deleted, or Mono.empty() if no HourBag was found.
+     * @param hourBagRequest The request containing the data for the HourBag to create.
+     * @return A Mono emitting the HourBagResponse for the created HourBag.
      */
     @Override
-    public Mono<Void> delete(HeaderRequest headerRequest, Long id) {
-        LoggerUtil.logInput(headerRequest.getTransactionId(), headerRequest.toString(), id);
-        return getHourBag(id)
-                .flatMap(hourBag -> validateDelete(hourBag))
-                .flatMap(hourBagRepository::delete)
-                .doOnSuccess(response ->
-                        LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), null))
-                .doOnError(error -> LoggerUtil.logError(headerRequest.getTransactionId(), error));
-    }
-
-    /**
-     * Retrieves an HourBag entity by its ID.
-     *
-     * @param id The ID of the HourBag to retrieve.
-     * @return A Mono emitting the found HourBag, or an error if no HourBag was found.
-     */
-    private Mono<HourBag> getHourBag(Long id) {
-        return hourBagRepository.findById(id)
-                .switchIfEmpty(Mono.error(BusinessException.createException(ConstantMessage.HOUR_BAG_GET_ERROR,
-                        List.of(ConstantMessage.HOUR_BAG_NOT_FOUND), HttpStatus.NOT_FOUND)));
-    }
-
-    /**
-     * Validates the HourBagUpdateRequest against the existing HourBag.
-     *
-     * @param hourBag        The existing HourBag.
-     * @param hourBagRequest The HourBagUpdateRequest containing the updated data.
-     * @return A Mono emitting the validated HourBag, or an error if the validation fails.
-     */
-    private Mono<HourBag> validateUpdate(HourBag hourBag, HourBagUpdateRequest hourBagRequest) {
-        ArrayList<String> errors = new ArrayList<>();
-        validateConsumedHours(hourBagRequest.getHours(), hourBag.getConsumedHours(), errors);
-
-        if (!errors.isEmpty()) {
-            return Mono.error(BusinessException.createException(
-                    ConstantMessage.HOUR_BAG_UPDATE_ERROR, errors, HttpStatus.BAD_REQUEST));
-        }
-
-        return Mono.just(hourBag);
+    public Mono<HourBagResponse> create(HourBagCreateRequest hourBagRequest) {
+        TransactionLogger.logInput(hourBagRequest);
+        return hourBagRepository.save(hourBagMapper.hourBagCreateRequestToHourBag(hourBagRequest))
+                .flatMap(saved -> entityVersions.bump(CacheEntity.HOUR_BAG).thenReturn(saved))
+                .as(transactionalOperator::transactional)
+                .map(hourBagMapper::hourBagToHourBagResponse)
+                .flatMap(response -> cacheInvalidationBus.publish(CacheEntity.HOUR_BAG, response.getId())
+                        .thenReturn(response))
+                .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+                .doOnError(TransactionLogger::logError);
     }
 
     /**
-     * Validates if the HourBag can be deleted.
+     * Updates an existing HourBag with a single conditional statement, so that the check of the consumed hours
+     * and the write can not be interleaved with a concurrent consumption.
      *
-     * @param hourBag The HourBag to validate.
-     * @return A Mono emitting the validated HourBag, or an error if the validation fails.
+     * @param hourBagRequest The request containing the updated data for the HourBag.
+     * @return A Mono emitting the HourBagResponse for the updated HourBag.
      */
-    private Mono<HourBag> validateDelete(HourBag hourBag) {
-        return validateActivityExists(hourBag)
-                .thenReturn(hourBag);
+    @Override
+    public Mono<HourBagResponse> update(HourBagUpdateRequest hourBagRequest) {
+        TransactionLogger.logInput(hourBagRequest);
+        return hourBagRepository.updateById(hourBagRequest.getId(), hourBagRequest.getHours(),
+                        hourBagRequest.getHourCost(), hourBagRequest.getRegistrationDate())
+                .switchIfEmpty(Mono.defer(() -> explainRejectedWrite(hourBagRequest.getId(), HOUR_BAG_UPDATE_REJECTED)))
+                .flatMap(updated -> entityVersions.bump(CacheEntity.HOUR_BAG).thenReturn(updated))
+                .as(transactionalOperator::transactional)
+                .map(hourBagMapper::hourBagToHourBagResponse)
+                .flatMap(response -> cacheInvalidationBus.publish(CacheEntity.HOUR_BAG, response.getId())
+                        .thenReturn(response))
+                .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+                .doOnError(TransactionLogger::logError);
     }
 
     /**
-     * Validates if there are any activities associated with the HourBag.
+     * Deletes a HourBag by its ID with a single statement guarded against associated activities.
      *
-     * @param hourBag The HourBag to validate.
-     * @return A Mono emitting completion signal if no activities are associated, or an error if activities are found.
+     * @param id The ID of the HourBag to delete.
+     * @return A Mono emitting completion signal once the HourBag is deleted, or an error if no HourBag was found
+     *     or it still has activities.
      */
-    private Mono<Void> validateActivityExists(HourBag hourBag) {
-        return activityRepository.existsByHourBagId(hourBag.getId())
-                .flatMap(exists -> exists ? Mono.error(BusinessException.createException(
-                        ConstantMessage.HOUR_BAG_DELETE_ERROR,
-                        List.of(ConstantMessage.HOUR_BAG_DELETE_ERROR),
-                        HttpStatus.BAD_REQUEST)) : Mono.empty());
+    @Override
+    public Mono<Void> delete(Long id) {
+        TransactionLogger.logInput(id);
+        return hourBagRepository.removeUnusedById(id)
+                .filter(deleted -> deleted > 0)
+                .switchIfEmpty(Mono.defer(() -> explainRejectedWrite(id, HOUR_BAG_DELETE_REJECTED)))
+                .then(entityVersions.bump(CacheEntity.HOUR_BAG))
+                .as(transactionalOperator::transactional)
+                .then(cacheInvalidationBus.publish(CacheEntity.HOUR_BAG, id))
+                .doOnSuccess(response -> TransactionLogger.logOutput(null))
+                .doOnError(TransactionLogger::logError);
     }
 
     /**
-     * Validates if the consumed hours are less than the total hours.
+     * Tells apart why a guarded write affected no rows. Only runs on the failure path.
      *
-     * @param hour         The total hours.
-     * @param consumedHour The consumed hours.
-     * @param errors       The list to add error messages to.
+     * @param id       The ID of the HourBag.
+     * @param rejected The error to emit when the HourBag exists but its guard failed.
+     * @return A Mono emitting the not-found error, or the rejection error if the HourBag exists.
      */
-    private void validateConsumedHours(Integer hour, Integer consumedHour, List<String> errors) {
-        if (consumedHour > hour) {
-            errors.add(ConstantMessage.HOUR_BAG_CONSUMED_HOUR_ERROR);
-        }
+    private <T> Mono<T> explainRejectedWrite(Long id, Mono<T> rejected) {
+        return hourBagRepository.existsById(id)
+                .flatMap(exists -> exists ? rejected : ErrorUtil.notFound(ConstantMessage.HOUR_BAG_GET_ERROR,
+                        ConstantMessage.HOUR_BAG_NOT_FOUND));
     }
 }
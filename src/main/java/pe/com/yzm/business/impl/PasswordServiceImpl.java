@@ -1,10 +1,19 @@
 package pe.com.yzm.business.impl;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import pe.com.yzm.business.PasswordService;
+import pe.com.yzm.util.ConstantMessage;
+import pe.com.yzm.util.ErrorUtil;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * <b>Class</b>: PasswordServiceImpl <br/>
@@ -20,17 +29,40 @@ import reactor.core.publisher.Mono;
  * </ul>
  */
 @Service
-@RequiredArgsConstructor
 public class PasswordServiceImpl implements PasswordService {
 
   private final PasswordEncoder passwordEncoder;
+  private final Scheduler passwordHashScheduler;
+  private final Timer encodeTimer;
+  private final Timer matchesTimer;
+  private final Counter rejectedCounter;
+
+  public PasswordServiceImpl(PasswordEncoder passwordEncoder, Scheduler passwordHashScheduler,
+                             MeterRegistry meterRegistry) {
+    this.passwordEncoder = passwordEncoder;
+    this.passwordHashScheduler = passwordHashScheduler;
+    this.encodeTimer = Timer.builder("password.hash.duration").tag("operation", "encode").register(meterRegistry);
+    this.matchesTimer = Timer.builder("password.hash.duration").tag("operation", "matches").register(meterRegistry);
+    this.rejectedCounter = Counter.builder("password.hash.rejected").register(meterRegistry);
+  }
+
   @Override
-  public String encode(String rawPassword) {
-    return passwordEncoder.encode(rawPassword);
+  public Mono<String> encode(String rawPassword) {
+    return hash(encodeTimer, () -> passwordEncoder.encode(rawPassword));
   }
 
   @Override
-  public Boolean matches(String rawPassword, String encodedPassword) {
-    return passwordEncoder.matches(rawPassword, encodedPassword);
+  public Mono<Boolean> matches(String rawPassword, String encodedPassword) {
+    return hash(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+  }
+
+  private <T> Mono<T> hash(Timer timer, Callable<T> task) {
+    return Mono.fromCallable(() -> timer.recordCallable(task))
+        .subscribeOn(passwordHashScheduler)
+        .onErrorResume(RejectedExecutionException.class, error -> {
+          rejectedCounter.increment();
+          return ErrorUtil.lazyError(ConstantMessage.PASSWORD_HASH_ERROR, ConstantMessage.PASSWORD_HASH_BUSY,
+              HttpStatus.SERVICE_UNAVAILABLE);
+        });
   }
 }
@@ -1,20 +1,31 @@
 package pe.com.yzm.business.impl;
 
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import pe.com.yzm.business.CompanyService;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import pe.com.yzm.business.ProjectService;
-import pe.com.yzm.core.exception.BusinessException;
-import pe.com.yzm.core.logger.LoggerUtil;
-import pe.com.yzm.core.model.HeaderRequest;
+import pe.com.yzm.cache.CacheEntity;
+import pe.com.yzm.cache.CacheInvalidationBus;
+import pe.com.yzm.cache.EntityVersions;
+import pe.com.yzm.cache.SingleFlight;
+import pe.com.yzm.config.ImportProperties;
+import pe.com.yzm.datasource.DataSourceRoute;
 import pe.com.yzm.expose.request.ProjectCreateRequest;
 import pe.com.yzm.expose.request.ProjectUpdateRequest;
+import pe.com.yzm.expose.response.BatchResponse;
+import pe.com.yzm.expose.response.ImportResponse;
 import pe.com.yzm.expose.response.ProjectCompanyResponse;
 import pe.com.yzm.expose.response.ProjectResponse;
+import pe.com.yzm.logging.StreamLogger;
+import pe.com.yzm.logging.TransactionLogger;
 import pe.com.yzm.mapper.ProjectMapper;
+import pe.com.yzm.model.Project;
 import pe.com.yzm.repository.ProjectRepository;
+import pe.com.yzm.util.BatchUtil;
 import pe.com.yzm.util.ConstantMessage;
+import pe.com.yzm.util.ErrorUtil;
+import pe.com.yzm.util.ImportUtil;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -37,106 +48,157 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ProjectServiceImpl implements ProjectService {
 
+    private static final Mono<Project> PROJECT_GET_NOT_FOUND = ErrorUtil.notFound(ConstantMessage.PROJECT_GET_ERROR,
+            ConstantMessage.PROJECT_NOT_FOUND);
+    private static final Mono<Project> PROJECT_UPDATE_NOT_FOUND = ErrorUtil.notFound(ConstantMessage.PROJECT_UPDATE_ERROR,
+            ConstantMessage.PROJECT_NOT_FOUND);
+    private static final Mono<Integer> PROJECT_DELETE_NOT_FOUND = ErrorUtil.notFound(ConstantMessage.PROJECT_DELETE_ERROR,
+            ConstantMessage.PROJECT_NOT_FOUND);
+
+    private final SingleFlight<Long, Project> projectFlights = new SingleFlight<>(SingleFlight.DEFAULT_MAX_KEYS);
+
     // Reference to the ProjectRepository to perform CRUD operations
     private final ProjectRepository projectRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final EntityVersions entityVersions;
     private final ProjectMapper projectMapper;
-    private final CompanyService companyService;
+    private final StreamLogger streamLogger;
+    private final ImportProperties importProperties;
+    private final Validator validator;
+    private final TransactionalOperator transactionalOperator;
 
     /**
      * Fetches all projects that belong to a user.
      *
-     * This method first fetches all companies that belong to the user specified by the userId parameter.
-     * Then, for each company, it fetches all projects that belong to that company.
+     * The projects and the names of their companies are read with a single proyectos JOIN empresas query,
+     * so the number of round trips does not grow with the number of companies of the user.
      * The result is a Flux of ProjectResponse objects, each representing a project that belongs to a company of the user.
      *
-     * @param headerRequest The header request containing necessary request metadata.
      * @param userId The ID of the user for whom to fetch the projects.
      * @return A Flux of ProjectResponse objects representing the projects found.
      */
     @Override
-    public Flux<ProjectCompanyResponse> findAllProjectsByUserId(HeaderRequest headerRequest, Long userId) {
-        LoggerUtil.logInput(headerRequest.getTransactionId(), headerRequest.toString(), userId);
+    public Flux<ProjectCompanyResponse> findAllProjectsByUserId(Long userId) {
+        TransactionLogger.logInput(userId);
 
-        return companyService.findAllCompanyByUser(headerRequest, userId)
-                .flatMap(company -> projectRepository.findAllByCompanyId(company.getId())
-                        .map(project -> projectMapper.projectToProjectCompanyResponse(project, company.getName())))
-                .doOnNext(response ->
-                        LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), response.toString()))
-                .doOnError(error -> LoggerUtil.logError(headerRequest.getTransactionId(), error));
+        return projectRepository.findAllWithCompanyByUserId(userId)
+                .transform(streamLogger.output("project-listar-usuario"));
     }
 
     /**
      * Fetches a project by its ID.
      *
-     * @param headerRequest The header request containing necessary request metadata.
-     * @param id            The ID of the project to fetch.
+     * @param id The ID of the project to fetch.
      * @return A Mono of ProjectResponse object representing the project found, or empty if no project is found.
      */
     @Override
-    public Mono<ProjectResponse> findByProjectId(HeaderRequest headerRequest, Long id) {
-        return projectRepository.findById(id)
-                .switchIfEmpty(Mono.error(BusinessException.createException(ConstantMessage.PROJECT_GET_ERROR,
-                        List.of(ConstantMessage.PROJECT_NOT_FOUND), HttpStatus.NOT_FOUND)))
+    public Mono<ProjectResponse> findByProjectId(Long id) {
+        return projectFlights.execute(id, () -> Mono.deferContextual(context ->
+                        DataSourceRoute.bypassesSharedCaches(context)
+                                ? projectRepository.findUncachedById(id)
+                                : projectRepository.findById(id)))
+                .switchIfEmpty(PROJECT_GET_NOT_FOUND)
                 .map(projectMapper::projectToProjectResponse)
-                .doOnNext(response ->
-                        LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), response.toString()))
-                .doOnError(error -> LoggerUtil.logError(headerRequest.getTransactionId(), error));
+                .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+                .doOnError(TransactionLogger::logError);
+    }
+
+    /**
+     * Finds several projects with a single {@code id = ANY(:ids)} query.
+     *
+     * @param ids The IDs to find.
+     * @return A Mono emitting the found ProjectResponses in request order and the IDs that were not found.
+     */
+    @Override
+    public Mono<BatchResponse<ProjectResponse>> findByProjectIds(List<Long> ids) {
+        TransactionLogger.logInput(ids);
+        return projectRepository.findByIds(BatchUtil.toArray(ids))
+                .map(projectMapper::projectToProjectResponse)
+                .collectList()
+                .map(responses -> BatchUtil.inRequestOrder(ids, responses, ProjectResponse::getId))
+                .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+                .doOnError(TransactionLogger::logError);
     }
 
     /**
      * Saves a new project.
      *
-     * @param headerRequest  The header request containing necessary request metadata.
      * @param projectRequest The request object containing the details of the project to be saved.
      * @return A Mono of ProjectResponse object representing the saved project.
      */
     @Override
-    public Mono<ProjectResponse> saveProject(HeaderRequest headerRequest, ProjectCreateRequest projectRequest) {
-        LoggerUtil.logInput(headerRequest.getTransactionId(), headerRequest.toString(), projectRequest);
+    public Mono<ProjectResponse> saveProject(ProjectCreateRequest projectRequest) {
+        TransactionLogger.logInput(projectRequest);
         return projectRepository.save(projectMapper.projectCreateRequestToProject(projectRequest))
+                .flatMap(saved -> entityVersions.bump(CacheEntity.PROJECT).thenReturn(saved))
+                .as(transactionalOperator::transactional)
                 .map(projectMapper::projectToProjectResponse)
-                .doOnNext(response ->
-                        LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), response.toString()))
-                .doOnError(error -> LoggerUtil.logError(headerRequest.getTransactionId(), error));
+                .flatMap(response -> cacheInvalidationBus.publish(CacheEntity.PROJECT, response.getId())
+                        .thenReturn(response))
+                .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+                .doOnError(TransactionLogger::logError);
+    }
+
+    /**
+     * Imports projects. Each chunk of valid rows is inserted with one batched statement in its own transaction,
+     * and the caches are invalidated once the upload has been read.
+     *
+     * @param projectRequests The projects of the upload, in order.
+     * @return A Mono of ImportResponse with the imported count and the rejected rows.
+     */
+    @Override
+    public Mono<ImportResponse> importProjects(Flux<ProjectCreateRequest> projectRequests) {
+        TransactionLogger.logInput(null);
+        return ImportUtil.importRows(projectRequests, validator, importProperties.getChunkSize(),
+                        importProperties.getMaxReportedErrors(),
+                        chunk -> projectRepository.insertAll(chunk.stream()
+                                        .map(projectMapper::projectCreateRequestToProject)
+                                        .toList())
+                                .count()
+                                .flatMap(count -> entityVersions.bump(CacheEntity.PROJECT).thenReturn(count))
+                                .as(transactionalOperator::transactional))
+                .flatMap(response -> cacheInvalidationBus.publish(CacheEntity.PROJECT, null)
+                        .thenReturn(response))
+                .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+                .doOnError(TransactionLogger::logError);
     }
 
     /**
      * Updates an existing project.
      *
-     * @param headerRequest  The header request containing necessary request metadata.
      * @param projectRequest The request object containing the updated details of the project.
      * @return A Mono of ProjectResponse object representing the updated project.
      */
     @Override
-    public Mono<ProjectResponse> updateProject(HeaderRequest headerRequest, ProjectUpdateRequest projectRequest) {
-        LoggerUtil.logInput(headerRequest.getTransactionId(), headerRequest.toString(), projectRequest);
-        return projectRepository.findById(projectRequest.getId())
-                .switchIfEmpty(Mono.error(BusinessException.createException(ConstantMessage.PROJECT_UPDATE_ERROR,
-                        List.of(ConstantMessage.PROJECT_NOT_FOUND), HttpStatus.NOT_FOUND)))
-                .map(project -> projectMapper.projectUpdateRequestToProject(project, projectRequest))
-                .flatMap(projectRepository::save)
+    public Mono<ProjectResponse> updateProject(ProjectUpdateRequest projectRequest) {
+        TransactionLogger.logInput(projectRequest);
+        return projectRepository.updateById(projectRequest.getId(), projectRequest.getName(), projectRequest.getCompanyId())
+                .switchIfEmpty(PROJECT_UPDATE_NOT_FOUND)
+                .flatMap(updated -> entityVersions.bump(CacheEntity.PROJECT).thenReturn(updated))
+                .as(transactionalOperator::transactional)
                 .map(projectMapper::projectToProjectResponse)
-                .doOnNext(response ->
-                        LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), response.toString()))
-                .doOnError(error -> LoggerUtil.logError(headerRequest.getTransactionId(), error));
+                .flatMap(response -> cacheInvalidationBus.publish(CacheEntity.PROJECT, response.getId())
+                        .thenReturn(response))
+                .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+                .doOnError(TransactionLogger::logError);
     }
 
     /**
      * Deletes a project by its ID.
      *
-     * @param headerRequest The header request containing necessary request metadata.
-     * @param id            The ID of the project to be deleted.
+     * @param id The ID of the project to be deleted.
      * @return A Mono of Void indicating the completion of the deletion operation.
      */
     @Override
-    public Mono<Void> deleteProject(HeaderRequest headerRequest, Long id) {
-        LoggerUtil.logInput(headerRequest.getTransactionId(), headerRequest.toString(), id);
-        return projectRepository.findById(id)
-                .switchIfEmpty(Mono.error(BusinessException.createException(ConstantMessage.PROJECT_DELETE_ERROR,
-                        List.of(ConstantMessage.PROJECT_NOT_FOUND), HttpStatus.NOT_FOUND)))
-                .flatMap(projectRepository::delete)
-                .doOnSuccess(response ->
-                        LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), null))
-                .doOnError(error -> LoggerUtil.logError(headerRequest.getTransactionId(), error));
+    public Mono<Void> deleteProject(Long id) {
+        TransactionLogger.logInput(id);
+        return projectRepository.removeById(id)
+                .filter(deleted -> deleted > 0)
+                .switchIfEmpty(PROJECT_DELETE_NOT_FOUND)
+                .then(entityVersions.bump(CacheEntity.PROJECT))
+                .as(transactionalOperator::transactional)
+                .then(cacheInvalidationBus.publish(CacheEntity.PROJECT, id))
+                .doOnSuccess(response -> TransactionLogger.logOutput(null))
+                .doOnError(TransactionLogger::logError);
     }
 }
@@ -2,20 +2,21 @@ package pe.com.yzm.business.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import pe.com.yzm.business.RoleService;
-import pe.com.yzm.core.exception.BusinessException;
-import pe.com.yzm.core.logger.LoggerUtil;
-import pe.com.yzm.core.model.HeaderRequest;
+import pe.com.yzm.cache.RoleSnapshot;
+import pe.com.yzm.expose.response.BatchResponse;
 import pe.com.yzm.expose.response.RoleResponse;
+import pe.com.yzm.logging.TransactionLogger;
 import pe.com.yzm.mapper.RoleMapper;
 import pe.com.yzm.repository.RoleRepository;
+import pe.com.yzm.util.BatchUtil;
 import pe.com.yzm.util.ConstantMessage;
-import reactor.core.publisher.Flux;
+import pe.com.yzm.util.ErrorUtil;
 import reactor.core.publisher.Mono;
 
-import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * <b>Class</b>: RoleServiceImpl <br/>
@@ -36,29 +37,44 @@ import java.util.Collections;
 @RequiredArgsConstructor
 public class RoleServiceImpl implements RoleService {
 
+  private static final Mono<RoleResponse> ROLE_GET_NOT_FOUND = ErrorUtil.notFound(ConstantMessage.ERROR_GET_ROLE,
+      ConstantMessage.ROLE_NOT_FOUND);
+
   private final RoleRepository roleRepository;
+  private final RoleSnapshot roleSnapshot;
   private final RoleMapper roleMapper;
 
   @Override
-  public Mono<RoleResponse> findByRoleId(HeaderRequest headerRequest, Long roleId) {
-    LoggerUtil.logInput(headerRequest.getTransactionId(), headerRequest.toString(), roleId);
-    return roleRepository.findById(roleId)
-        .switchIfEmpty(Mono.error(BusinessException
-            .createException(ConstantMessage.ERROR_GET_ROLE,
-                Collections.singletonList(ConstantMessage.ROLE_NOT_FOUND), HttpStatus.NOT_FOUND)))
-        .map(roleMapper::toRoleResponse)
-        .doOnNext(response ->
-            LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), response.toString()))
-        .doOnError(error -> LoggerUtil.logError(headerRequest.getTransactionId(), error));
+  public Mono<RoleResponse> findByRoleId(Long roleId) {
+    TransactionLogger.logInput(roleId);
+    return roleSnapshot.get()
+        .flatMap(snapshot -> Mono.justOrEmpty(snapshot.byId().get(roleId)))
+        .switchIfEmpty(Mono.defer(() -> roleRepository.findById(roleId).map(roleMapper::toRoleResponse)))
+        .switchIfEmpty(ROLE_GET_NOT_FOUND)
+        .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+        .doOnError(TransactionLogger::logError);
+  }
+
+  @Override
+  public Mono<BatchResponse<RoleResponse>> findByRoleIds(List<Long> ids) {
+    TransactionLogger.logInput(ids);
+    return roleSnapshot.get()
+        .map(snapshot -> ids.stream().map(snapshot.byId()::get).filter(Objects::nonNull).toList())
+        .switchIfEmpty(Mono.defer(() -> roleRepository.findByIds(BatchUtil.toArray(ids))
+            .map(roleMapper::toRoleResponse)
+            .collectList()))
+        .map(responses -> BatchUtil.inRequestOrder(ids, responses, RoleResponse::getId))
+        .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+        .doOnError(TransactionLogger::logError);
   }
 
   @Override
-  public Flux<RoleResponse> findAllRoles(HeaderRequest headerRequest) {
-    LoggerUtil.logInput(headerRequest.getTransactionId(), headerRequest.toString(), null);
-    return roleRepository.findAll()
-        .map(roleMapper::toRoleResponse)
-        .doOnNext(response ->
-            LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), response.toString()))
-        .doOnError(error -> LoggerUtil.logError(headerRequest.getTransactionId(), error));
+  public Mono<byte[]> findAllRolesJson() {
+    TransactionLogger.logInput(null);
+    return roleSnapshot.get()
+        .switchIfEmpty(Mono.defer(roleSnapshot::refresh))
+        .doOnNext(snapshot -> TransactionLogger.logOutput(String.valueOf(snapshot.roles().size())))
+        .map(RoleSnapshot.Snapshot::json)
+        .doOnError(TransactionLogger::logError);
   }
 }
@@ -1,18 +1,25 @@
 package pe.com.yzm.business.impl;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import pe.com.yzm.business.UserActivityService;
-import pe.com.yzm.core.exception.BusinessException;
-import pe.com.yzm.core.logger.LoggerUtil;
-import pe.com.yzm.core.model.HeaderRequest;
+import pe.com.yzm.cache.CacheEntity;
+import pe.com.yzm.cache.CacheInvalidationBus;
+import pe.com.yzm.config.StreamingProperties;
 import pe.com.yzm.expose.request.UserActivityCreateRequest;
 import pe.com.yzm.expose.request.UserActivityUpdateRequest;
+import pe.com.yzm.expose.response.BatchResponse;
+import pe.com.yzm.expose.response.PageResponse;
 import pe.com.yzm.expose.response.UserActivityResponse;
+import pe.com.yzm.logging.StreamLogger;
+import pe.com.yzm.logging.TransactionLogger;
 import pe.com.yzm.mapper.UserActivityMapper;
+import pe.com.yzm.model.UserActivity;
 import pe.com.yzm.repository.UserActivityRepository;
+import pe.com.yzm.util.BatchUtil;
 import pe.com.yzm.util.ConstantMessage;
+import pe.com.yzm.util.ErrorUtil;
+import pe.com.yzm.util.PageUtil;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -35,98 +42,135 @@ import java.util.List;
 @RequiredArgsConstructor
 public class UserActivityServiceImpl implements UserActivityService {
 
+    private static final Mono<UserActivity> USER_ACTIVITY_GET_NOT_FOUND = ErrorUtil.notFound(ConstantMessage.USER_ACTIVITY_GET_ERROR,
+            ConstantMessage.USER_ACTIVITY_NOT_FOUND);
+    private static final Mono<UserActivity> USER_ACTIVITY_UPDATE_NOT_FOUND = ErrorUtil.notFound(ConstantMessage.USER_ACTIVITY_UPDATE_ERROR,
+            ConstantMessage.USER_ACTIVITY_NOT_FOUND);
+    private static final Mono<Integer> USER_ACTIVITY_DELETE_NOT_FOUND = ErrorUtil.notFound(ConstantMessage.USER_ACTIVITY_DELETE_ERROR,
+            ConstantMessage.USER_ACTIVITY_NOT_FOUND);
+
     private final UserActivityRepository userActivityRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
     private final UserActivityMapper userActivityMapper;
+    private final StreamingProperties streamingProperties;
+    private final StreamLogger streamLogger;
 
     /**
      * Finds a UserActivity by its ID.
      *
-     * @param headerRequest The request header containing metadata for the request.
-     * @param id            The ID of the UserActivity to find.
+     * @param id The ID of the UserActivity to find.
      * @return A Mono emitting the UserActivityResponse for the found UserActivity, or Mono.empty() if no UserActivity was found.
      */
     @Override
-    public Mono<UserActivityResponse> findById(HeaderRequest headerRequest, Long id) {
-        LoggerUtil.logInput(headerRequest.getTransactionId(), headerRequest.toString(), id);
+    public Mono<UserActivityResponse> findById(Long id) {
+        TransactionLogger.logInput(id);
         return userActivityRepository.findById(id)
-                .switchIfEmpty(Mono.error(BusinessException.createException(ConstantMessage.USER_ACTIVITY_GET_ERROR,
-                        List.of(ConstantMessage.USER_ACTIVITY_NOT_FOUND), HttpStatus.NOT_FOUND)))
+                .switchIfEmpty(USER_ACTIVITY_GET_NOT_FOUND)
+                .map(userActivityMapper::userActivityToUserActivityResponse)
+                .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+                .doOnError(TransactionLogger::logError);
+    }
+
+    /**
+     * Finds several UserActivities with a single {@code id = ANY(:ids)} query.
+     *
+     * @param ids The IDs to find.
+     * @return A Mono emitting the found UserActivityResponses in request order and the IDs that were not found.
+     */
+    @Override
+    public Mono<BatchResponse<UserActivityResponse>> findByIds(List<Long> ids) {
+        TransactionLogger.logInput(ids);
+        return userActivityRepository.findByIds(BatchUtil.toArray(ids))
                 .map(userActivityMapper::userActivityToUserActivityResponse)
-                .doOnNext(response ->
-                        LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), response.toString()))
-                .doOnError(error -> LoggerUtil.logError(headerRequest.getTransactionId(), error));
+                .collectList()
+                .map(responses -> BatchUtil.inRequestOrder(ids, responses, UserActivityResponse::getId))
+                .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+                .doOnError(TransactionLogger::logError);
     }
 
     /**
-     * Finds all UserActivities.
+     * Finds a page of UserActivities ordered by ID.
      *
-     * @param headerRequest The request header containing metadata for the request.
-     * @return A Flux emitting the UserActivityResponses for all found UserActivities.
+     * @param limit The maximum number of UserActivities to return.
+     * @param after The cursor returned by the previous page, or null for the first page.
+     * @return A Mono emitting the page of UserActivityResponses and the cursor of the next page.
      */
     @Override
-    public Flux<UserActivityResponse> findAll(HeaderRequest headerRequest) {
-        LoggerUtil.logInput(headerRequest.getTransactionId(), headerRequest.toString(), null);
-        return userActivityRepository.findAll()
+    public Mono<PageResponse<UserActivityResponse>> findAll(Integer limit, String after) {
+        TransactionLogger.logInput(after);
+        return PageUtil.decodeCursor(after)
+                .flatMapMany(lastId -> userActivityRepository.findPage(lastId, limit + 1))
                 .map(userActivityMapper::userActivityToUserActivityResponse)
-                .doOnNext(response ->
-                        LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), response.toString()))
-                .doOnError(error -> LoggerUtil.logError(headerRequest.getTransactionId(), error));
+                .collectList()
+                .map(responses -> PageUtil.toPage(responses, limit, UserActivityResponse::getId))
+                .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+                .doOnError(TransactionLogger::logError);
+    }
+
+    /**
+     * Streams every UserActivity ordered by ID, reading them in keyset batches paced by the client.
+     *
+     * @return A Flux emitting the UserActivityResponses one by one.
+     */
+    @Override
+    public Flux<UserActivityResponse> findAllStream() {
+        TransactionLogger.logInput(null);
+        return PageUtil.streamAll(userActivityRepository::findPage, UserActivity::getId,
+                        streamingProperties.getBatchSize())
+                .map(userActivityMapper::userActivityToUserActivityResponse)
+                .transform(streamLogger.output("user-activity-listar"));
     }
 
     /**
      * Creates a new UserActivity.
      *
-     * @param headerRequest       The request header containing metadata for the request.
      * @param userActivityRequest The request containing the data for the UserActivity to create.
      * @return A Mono emitting the UserActivityResponse for the created UserActivity.
      */
     @Override
-    public Mono<UserActivityResponse> create(HeaderRequest headerRequest, UserActivityCreateRequest userActivityRequest) {
-        LoggerUtil.logInput(headerRequest.getTransactionId(), headerRequest.toString(), userActivityRequest);
+    public Mono<UserActivityResponse> create(UserActivityCreateRequest userActivityRequest) {
+        TransactionLogger.logInput(userActivityRequest);
         return userActivityRepository.save(userActivityMapper.activityCreateRequestToActivity(userActivityRequest))
                 .map(userActivityMapper::userActivityToUserActivityResponse)
-                .doOnNext(response ->
-                        LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), response.toString()))
-                .doOnError(error -> LoggerUtil.logError(headerRequest.getTransactionId(), error));
+                .flatMap(response -> cacheInvalidationBus.publish(CacheEntity.USER_ACTIVITY, response.getId())
+                        .thenReturn(response))
+                .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+                .doOnError(TransactionLogger::logError);
     }
 
     /**
      * Updates an existing UserActivity.
      *
-     * @param headerRequest       The request header containing metadata for the request.
      * @param userActivityRequest The request containing the updated data for the UserActivity.
      * @return A Mono emitting the UserActivityResponse for the updated UserActivity.
      */
     @Override
-    public Mono<UserActivityResponse> update(HeaderRequest headerRequest, UserActivityUpdateRequest userActivityRequest) {
-        LoggerUtil.logInput(headerRequest.getTransactionId(), headerRequest.toString(), userActivityRequest);
-        return userActivityRepository.findById(userActivityRequest.getId())
-                .switchIfEmpty(Mono.error(BusinessException.createException(ConstantMessage.USER_ACTIVITY_UPDATE_ERROR,
-                        List.of(ConstantMessage.USER_ACTIVITY_NOT_FOUND), HttpStatus.NOT_FOUND)))
-                .map(activity -> userActivityMapper.userActivityUpdateRequestToUserActivity(activity, userActivityRequest))
-                .flatMap(userActivityRepository::save)
+    public Mono<UserActivityResponse> update(UserActivityUpdateRequest userActivityRequest) {
+        TransactionLogger.logInput(userActivityRequest);
+        return userActivityRepository.updateById(userActivityRequest.getId(), userActivityRequest.getName(),
+                        userActivityRequest.getUserId())
+                .switchIfEmpty(USER_ACTIVITY_UPDATE_NOT_FOUND)
                 .map(userActivityMapper::userActivityToUserActivityResponse)
-                .doOnNext(response ->
-                        LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), response.toString()))
-                .doOnError(error -> LoggerUtil.logError(headerRequest.getTransactionId(), error));
+                .flatMap(response -> cacheInvalidationBus.publish(CacheEntity.USER_ACTIVITY, response.getId())
+                        .thenReturn(response))
+                .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+                .doOnError(TransactionLogger::logError);
     }
 
     /**
      * Deletes a UserActivity by its ID.
      *
-     * @param headerRequest The request header containing metadata for the request.
-     * @param id            The ID of the UserActivity to delete.
+     * @param id The ID of the UserActivity to delete.
      * @return A Mono emitting completion signal once the UserActivity is deleted, or Mono.empty() if no UserActivity was found.
      */
     @Override
-    public Mono<Void> delete(HeaderRequest headerRequest, Long id) {
-        LoggerUtil.logInput(headerRequest.getTransactionId(), headerRequest.toString(), id);
-        return userActivityRepository.findById(id)
-                .switchIfEmpty(Mono.error(BusinessException.createException(ConstantMessage.USER_ACTIVITY_DELETE_ERROR,
-                        List.of(ConstantMessage.USER_ACTIVITY_NOT_FOUND), HttpStatus.NOT_FOUND)))
-                .flatMap(userActivityRepository::delete)
-                .doOnSuccess(response ->
-                        LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), null))
-                .doOnError(error -> LoggerUtil.logError(headerRequest.getTransactionId(), error));
+    public Mono<Void> delete(Long id) {
+        TransactionLogger.logInput(id);
+        return userActivityRepository.removeById(id)
+                .filter(deleted -> deleted > 0)
+                .switchIfEmpty(USER_ACTIVITY_DELETE_NOT_FOUND)
+                .then(cacheInvalidationBus.publish(CacheEntity.USER_ACTIVITY, id))
+                .doOnSuccess(response -> TransactionLogger.logOutput(null))
+                .doOnError(TransactionLogger::logError);
     }
 }
@@ -6,20 +6,32 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import pe.com.yzm.business.PasswordService;
 import pe.com.yzm.business.UserService;
+import pe.com.yzm.cache.CacheEntity;
+import pe.com.yzm.cache.CacheInvalidationBus;
+import pe.com.yzm.cache.NegativeCache;
+import pe.com.yzm.cache.SingleFlight;
+import pe.com.yzm.config.StreamingProperties;
 import pe.com.yzm.core.exception.BusinessException;
-import pe.com.yzm.core.logger.LoggerUtil;
-import pe.com.yzm.core.model.HeaderRequest;
 import pe.com.yzm.expose.request.UserCreateRequest;
 import pe.com.yzm.expose.request.UserUpdateRequest;
+import pe.com.yzm.expose.response.BatchResponse;
+import pe.com.yzm.expose.response.PageResponse;
 import pe.com.yzm.expose.response.UserResponse;
+import pe.com.yzm.logging.StreamLogger;
+import pe.com.yzm.logging.TransactionLogger;
 import pe.com.yzm.mapper.UserMapper;
 import pe.com.yzm.model.User;
 import pe.com.yzm.repository.UserRepository;
+import pe.com.yzm.util.BatchUtil;
 import pe.com.yzm.util.ConstantMessage;
+import pe.com.yzm.util.ErrorUtil;
+import pe.com.yzm.util.PageUtil;
+import pe.com.yzm.util.SparseFields;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * <b>Class</b>: UserServiceImpl <br/>
@@ -39,70 +51,126 @@ import java.util.List;
 @Slf4j
 public class UserServiceImpl implements UserService {
 
+  private static final Mono<User> USER_GET_NOT_FOUND = ErrorUtil.notFound(ConstantMessage.ERROR_GET_USER,
+      ConstantMessage.USER_NOT_FOUND);
+  private static final Mono<User> USER_UPDATE_NOT_FOUND = ErrorUtil.lazyError(ConstantMessage.ERROR_UPDATE_USER,
+      ConstantMessage.USER_NOT_FOUND, HttpStatus.BAD_REQUEST);
+  private static final Mono<Integer> USER_DELETE_NOT_FOUND = ErrorUtil.lazyError(ConstantMessage.ERROR_DELETE_USER,
+      ConstantMessage.USER_NOT_FOUND, HttpStatus.BAD_REQUEST);
+
+  private final SingleFlight<Long, User> userFlights = new SingleFlight<>(SingleFlight.DEFAULT_MAX_KEYS);
+
+  // Projected straight from the partially read entity, without building a full UserResponse per row
+  private static final SparseFields<User> USER_FIELDS = SparseFields.<User>builder("id")
+      .field("id", "id", User::getId)
+      .field("name", "nombre", User::getName)
+      .field("email", "email", User::getEmail)
+      .field("roleId", "rol_id", User::getRoleId)
+      .build();
+
   private final UserRepository userRepository;
+  private final CacheInvalidationBus cacheInvalidationBus;
+  private final NegativeCache negativeCache;
   private final PasswordService passwordService;
   private final UserMapper userMapper;
+  private final StreamingProperties streamingProperties;
+  private final StreamLogger streamLogger;
 
   @Override
-  public Mono<UserResponse> findUserById(HeaderRequest headerRequest, Long userId) {
-    LoggerUtil.logInput(headerRequest.getTransactionId(), headerRequest.toString(), userId);
-    return userRepository.findById(userId)
-        .switchIfEmpty(Mono.error(BusinessException.createException(ConstantMessage.ERROR_GET_USER,
-            List.of(ConstantMessage.USER_NOT_FOUND), HttpStatus.NOT_FOUND)))
+  public Mono<UserResponse> findUserById(Long userId) {
+    TransactionLogger.logInput(userId);
+    return userFlights.execute(userId,
+            () -> negativeCache.lookup(CacheEntity.USER, userId, () -> userRepository.findById(userId)))
+        .switchIfEmpty(USER_GET_NOT_FOUND)
         .map(userMapper::userToUserResponse)
-        .doOnNext(response ->
-            LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), response.toString()))
+        .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
         .doOnError( error -> {
-          LoggerUtil.logError(headerRequest.getTransactionId(), error);
+          TransactionLogger.logError(error);
         });
   }
 
   @Override
-  public Flux<UserResponse> findAllUsers(HeaderRequest headerRequest) {
-    LoggerUtil.logInput(headerRequest.getTransactionId(), headerRequest.toString(), null);
-    return userRepository.findAll()
+  public Mono<BatchResponse<UserResponse>> findUserByIds(List<Long> ids) {
+    TransactionLogger.logInput(ids);
+    return userRepository.findByIds(BatchUtil.toArray(ids))
+        .map(userMapper::userToUserResponse)
+        .collectList()
+        .map(responses -> BatchUtil.inRequestOrder(ids, responses, UserResponse::getId))
+        .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+        .doOnError(TransactionLogger::logError);
+  }
+
+  @Override
+  public Mono<PageResponse<UserResponse>> findAllUsers(Integer limit, String after) {
+    TransactionLogger.logInput(after);
+    return PageUtil.decodeCursor(after)
+        .flatMapMany(lastId -> userRepository.findPage(lastId, limit + 1))
+        .map(userMapper::userToUserResponse)
+        .collectList()
+        .map(responses -> PageUtil.toPage(responses, limit, UserResponse::getId))
+        .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+        .doOnError(TransactionLogger::logError);
+  }
+
+  @Override
+  public Mono<PageResponse<Map<String, Object>>> findAllUsersFields(Integer limit, String after, String fields) {
+    TransactionLogger.logInput(fields);
+    return USER_FIELDS.select(fields)
+        .flatMap(selection -> PageUtil.decodeCursor(after)
+            .flatMapMany(lastId -> userRepository.findPage(lastId, limit + 1, selection.columns()))
+            .collectList()
+            .map(users -> PageUtil.toPage(users, limit, User::getId))
+            .map(selection::projectPage))
+        .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+        .doOnError(TransactionLogger::logError);
+  }
+
+  @Override
+  public Flux<UserResponse> findAllUsersStream() {
+    TransactionLogger.logInput(null);
+    return PageUtil.streamAll(userRepository::findPage, User::getId, streamingProperties.getBatchSize())
         .map(userMapper::userToUserResponse)
-        .doOnNext(response ->
-            LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), response.toString()))
-        .doOnError(error -> LoggerUtil.logError(headerRequest.getTransactionId(), error));
+        .transform(streamLogger.output("user-listar"));
   }
 
   @Override
-  public Mono<UserResponse> saveUser(HeaderRequest headerRequest, UserCreateRequest userRequest) {
-    LoggerUtil.logInput(headerRequest.getTransactionId(), headerRequest.toString(), userRequest);
+  public Mono<UserResponse> saveUser(UserCreateRequest userRequest) {
+    TransactionLogger.logInput(userRequest);
     return validateSaveUser(userRequest)
         .map(userMapper::userCreateRequestToUser)
-        .flatMap(user -> {
-          user.setPassword(passwordService.encode(userRequest.getPassword()));
-          return userRepository.save(user);
-        })
+        .flatMap(user -> passwordService.encode(userRequest.getPassword())
+            .flatMap(encodedPassword -> {
+              user.setPassword(encodedPassword);
+              return userRepository.save(user);
+            }))
         .map(userMapper::userToUserResponse)
-        .doOnNext(response ->
-            LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), response.toString()))
-        .doOnError(error -> LoggerUtil.logError(headerRequest.getTransactionId(), error));
+        .flatMap(response -> cacheInvalidationBus.publish(CacheEntity.USER, response.getId()).thenReturn(response))
+        .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+        .doOnError(TransactionLogger::logError);
   }
 
 
   @Override
-  public Mono<UserResponse> updateUser(HeaderRequest headerRequest, UserUpdateRequest userRequest) {
-    LoggerUtil.logInput(headerRequest.getTransactionId(), headerRequest.toString(), userRequest);
-    return findUserAndValidate(userRequest.getId(), ConstantMessage.ERROR_UPDATE_USER)
-        .map(user -> userMapper.userUpdateRequestToUser(user, userRequest))
-        .flatMap(userRepository::save)
+  public Mono<UserResponse> updateUser(UserUpdateRequest userRequest) {
+    TransactionLogger.logInput(userRequest);
+    return userRepository.updateById(userRequest.getId(), userRequest.getName(), userRequest.getRoleId(),
+            userRequest.getUserId())
+        .switchIfEmpty(USER_UPDATE_NOT_FOUND)
         .map(userMapper::userToUserResponse)
-        .doOnNext(response ->
-            LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), response.toString()))
-        .doOnError(error -> LoggerUtil.logError(headerRequest.getTransactionId(), error));
+        .flatMap(response -> cacheInvalidationBus.publish(CacheEntity.USER, response.getId()).thenReturn(response))
+        .doOnNext(response -> TransactionLogger.logOutput(response.toString()))
+        .doOnError(TransactionLogger::logError);
   }
 
   @Override
-  public Mono<Void> deleteUser(HeaderRequest headerRequest, Long userId) {
-    LoggerUtil.logInput(headerRequest.getTransactionId(), headerRequest.toString(), userId);
-    return findUserAndValidate(userId, ConstantMessage.ERROR_DELETE_USER)
-        .flatMap(userRepository::delete)
-        .doOnSuccess(response ->
-            LoggerUtil.logOutput(headerRequest.getTransactionId(), headerRequest.toString(), null))
-        .doOnError(error -> LoggerUtil.logError(headerRequest.getTransactionId(), error));
+  public Mono<Void> deleteUser(Long userId) {
+    TransactionLogger.logInput(userId);
+    return userRepository.removeById(userId)
+        .filter(deleted -> deleted > 0)
+        .switchIfEmpty(USER_DELETE_NOT_FOUND)
+        .then(cacheInvalidationBus.publish(CacheEntity.USER, userId))
+        .doOnSuccess(response -> TransactionLogger.logOutput(null))
+        .doOnError(TransactionLogger::logError);
   }
 
   private Mono<UserCreateRequest> validateSaveUser(UserCreateRequest userRequest) {
@@ -111,10 +179,4 @@ public class UserServiceImpl implements UserService {
             List.of(String.format(ConstantMessage.USER_EXIST, userRequest.getEmail())), HttpStatus.BAD_REQUEST)) : Mono.just(userRequest));
   }
 
-  private Mono<User> findUserAndValidate(Long userId, String message) {
-    return userRepository.findById(userId)
-        .switchIfEmpty(Mono.error(BusinessException.createException(message,
-            List.of(ConstantMessage.USER_NOT_FOUND), HttpStatus.BAD_REQUEST)));
-  }
-
 }
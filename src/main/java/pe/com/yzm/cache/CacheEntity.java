@@ -0,0 +1,23 @@
+package pe.com.yzm.cache;
+
+/**
+ * <b>Class</b>: CacheEntity <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+public enum CacheEntity {
+    ACTIVITY,
+    COMPANY,
+    HOUR_BAG,
+    PROJECT,
+    USER,
+    USER_ACTIVITY
+}
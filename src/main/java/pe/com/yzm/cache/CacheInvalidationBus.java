@@ -0,0 +1,156 @@
+package pe.com.yzm.cache;
+
+import io.r2dbc.postgresql.api.Notification;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcConnectionDetails;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import pe.com.yzm.config.CacheInvalidationProperties;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * <b>Class</b>: CacheInvalidationBus <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+
+    private static final String SEPARATOR = "|";
+
+    private final DatabaseClient databaseClient;
+    private final R2dbcConnectionDetails connectionDetails;
+    private final CacheInvalidationProperties properties;
+    private final List<CacheInvalidationHandler> handlers;
+    private final String instanceId = UUID.randomUUID().toString();
+    private Disposable listener;
+
+    public CacheInvalidationBus(DatabaseClient databaseClient, R2dbcConnectionDetails connectionDetails,
+                                CacheInvalidationProperties properties, List<CacheInvalidationHandler> handlers) {
+        this.databaseClient = databaseClient;
+        this.connectionDetails = connectionDetails;
+        this.properties = properties;
+        this.handlers = handlers;
+    }
+
+    /**
+     * Invalidates an entity on this instance and notifies the other ones. Inside a transaction the notification
+     * is only delivered on commit. A failed notification is logged and never fails the mutation.
+     *
+     * @param entity The type of the changed entity.
+     * @param id     The ID of the changed entity, or null when several rows of the type changed.
+     * @return A Mono completing once the notification was sent.
+     */
+    public Mono<Void> publish(CacheEntity entity, Long id) {
+        return Mono.fromRunnable(() -> handlers.forEach(handler -> handler.invalidate(entity, id)))
+                .then(databaseClient.sql("SELECT pg_notify(:channel, :payload)")
+                        .bind("channel", properties.getChannel())
+                        .bind("payload", instanceId + SEPARATOR + entity + SEPARATOR + (id == null ? "" : id))
+                        .fetch()
+                        .rowsUpdated())
+                .onErrorResume(error -> {
+                    log.warn("Cache invalidation of {} {} could not be published", entity, id, error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * Starts listening once the application is ready, on a dedicated connection outside the pool.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void listen() {
+        if (!Boolean.TRUE.equals(properties.getEnabled())) {
+            return;
+        }
+        listener = notifications()
+                .map(Notification::getParameter)
+                .filter(payload -> payload != null && !payload.startsWith(instanceId + SEPARATOR))
+                .bufferTimeout(properties.getCoalesceMaxSize(), properties.getCoalesceWindow())
+                .subscribe(this::apply, error -> log.error("Cache invalidation listener stopped", error));
+    }
+
+    /**
+     * Emits the notifications of the channel, reconnecting with backoff whenever the connection is lost.
+     * Every cache is cleared after each (re)connection, since notifications sent meanwhile were lost.
+     */
+    private Flux<Notification> notifications() {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.builder()
+                .from(connectionDetails.getConnectionFactoryOptions())
+                .option(ConnectionFactoryOptions.DRIVER, "postgresql")
+                .build();
+        return Flux.usingWhen(Mono.from(ConnectionFactories.get(options).create()).cast(PostgresqlConnection.class),
+                        connection -> connection.createStatement("LISTEN " + properties.getChannel())
+                                .execute()
+                                .flatMap(PostgresqlResult::getRowsUpdated)
+                                .then(Mono.fromRunnable(this::catchUp))
+                                .thenMany(connection.getNotifications()),
+                        PostgresqlConnection::close)
+                .repeat()
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, properties.getReconnectMinBackoff())
+                        .maxBackoff(properties.getReconnectMaxBackoff())
+                        .doBeforeRetry(signal -> log.warn("Cache invalidation listener reconnecting",
+                                signal.failure())));
+    }
+
+    private void catchUp() {
+        log.info("Cache invalidation listener connected, clearing local caches");
+        handlers.forEach(CacheInvalidationHandler::invalidateAll);
+    }
+
+    /**
+     * Applies a burst of notifications, each distinct entity once.
+     */
+    private void apply(List<String> payloads) {
+        Set<String> distinct = new LinkedHashSet<>(payloads);
+        if (distinct.size() >= properties.getCoalesceMaxSize()) {
+            handlers.forEach(CacheInvalidationHandler::invalidateAll);
+            return;
+        }
+        for (String payload : distinct) {
+            String[] parts = payload.split("\\|", -1);
+            if (parts.length != 3) {
+                log.warn("Ignoring malformed cache invalidation {}", payload);
+                continue;
+            }
+            try {
+                CacheEntity entity = CacheEntity.valueOf(parts[1]);
+                Long id = parts[2].isEmpty() ? null : Long.valueOf(parts[2]);
+                handlers.forEach(handler -> handler.invalidate(entity, id));
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring malformed cache invalidation {}", payload);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (listener != null) {
+            listener.dispose();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package pe.com.yzm.cache;
+
+/**
+ * <b>Class</b>: CacheInvalidationHandler <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+public interface CacheInvalidationHandler {
+
+    /**
+     * Drops what is cached for an entity changed on this or another instance.
+     *
+     * @param entity The type of the changed entity.
+     * @param id     The ID of the changed entity, or null when several rows of the type changed.
+     */
+    void invalidate(CacheEntity entity, Long id);
+
+    /**
+     * Drops everything, used when notifications may have been missed.
+     */
+    void invalidateAll();
+}
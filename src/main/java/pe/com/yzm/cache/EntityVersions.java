@@ -0,0 +1,75 @@
+package pe.com.yzm.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * <b>Class</b>: EntityVersions <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityVersions {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Builds a weak ETag from the versions of the entity types a response is read from. The versions live in the
+     * versiones_entidades table, bumped by the writes themselves, so all instances issue the same tag for the same
+     * data. It must be computed before the query runs, so that a write racing with the query can only make the tag
+     * stale. Every conditional request pays this one query.
+     *
+     * @param entities The entity types the response depends on.
+     * @return A Mono emitting the weak ETag of the response.
+     */
+    public Mono<String> etag(CacheEntity... entities) {
+        return databaseClient.sql("SELECT entidad, version FROM versiones_entidades WHERE entidad = ANY(:entities)")
+                .bind("entities", Arrays.stream(entities).map(CacheEntity::name).toArray(String[]::new))
+                .map((row, metadata) -> Map.entry(row.get("entidad", String.class), row.get("version", Long.class)))
+                .all()
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .map(versions -> {
+                    StringBuilder tag = new StringBuilder("W/\"");
+                    for (int i = 0; i < entities.length; i++) {
+                        if (i > 0) {
+                            tag.append('-');
+                        }
+                        tag.append(versions.getOrDefault(entities[i].name(), 0L));
+                    }
+                    return tag.append('"').toString();
+                });
+    }
+
+    /**
+     * Bumps the versions of the entity types a write changed. It must run inside the transaction of the write, as
+     * its last statement: the new version is then visible exactly when the data is, and a failed bump rolls the
+     * write back instead of leaving the old ETags valid for changed data. The row lock it takes serializes the
+     * writers of a type only until they commit.
+     *
+     * @param entities The entity types whose tagged responses the write changed.
+     * @return A Mono completing once every version was bumped, or an IllegalStateException if one is missing.
+     */
+    public Mono<Void> bump(CacheEntity... entities) {
+        return databaseClient.sql("UPDATE versiones_entidades SET version = version + 1 WHERE entidad = ANY(:entities)")
+                .bind("entities", Arrays.stream(entities).map(CacheEntity::name).toArray(String[]::new))
+                .fetch()
+                .rowsUpdated()
+                .flatMap(updated -> updated == entities.length ? Mono.<Void>empty()
+                        : Mono.error(new IllegalStateException("Missing versiones_entidades rows for "
+                                + Arrays.toString(entities))));
+    }
+}
@@ -0,0 +1,88 @@
+package pe.com.yzm.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import pe.com.yzm.config.NegativeCacheProperties;
+import pe.com.yzm.datasource.DataSourceRoute;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * <b>Class</b>: NegativeCache <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@Component
+public class NegativeCache implements CacheInvalidationHandler {
+
+    private final Cache<Key, Boolean> missing;
+    private final AtomicLong generation = new AtomicLong();
+
+    public NegativeCache(NegativeCacheProperties properties, MeterRegistry meterRegistry) {
+        this.missing = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getTtl())
+                .maximumSize(properties.getMaximumSize())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, missing, "negative");
+    }
+
+    /**
+     * Runs the lookup unless the id is known to be missing, and remembers the id when the lookup finds nothing.
+     * A miss is not remembered if an invalidation happened while the lookup ran, so a concurrent insert is never
+     * hidden by a lookup that started before it, nor when the lookup was routed to a replica that may lag behind.
+     *
+     * @param entity The type of the entity.
+     * @param id     The ID looked up.
+     * @param lookup The repository lookup.
+     * @return A Mono emitting the entity, or Mono.empty() if it does not exist.
+     */
+    public <T> Mono<T> lookup(CacheEntity entity, Long id, Supplier<Mono<T>> lookup) {
+        return Mono.defer(() -> {
+            Key key = new Key(entity, id);
+            if (missing.getIfPresent(key) != null) {
+                return Mono.empty();
+            }
+            long startedAt = generation.get();
+            return lookup.get()
+                    .switchIfEmpty(Mono.deferContextual(context -> {
+                        if (generation.get() == startedAt && !DataSourceRoute.bypassesSharedCaches(context)) {
+                            missing.put(key, Boolean.TRUE);
+                        }
+                        return Mono.empty();
+                    }));
+        });
+    }
+
+    @Override
+    public void invalidate(CacheEntity entity, Long id) {
+        generation.incrementAndGet();
+        if (id == null) {
+            missing.asMap().keySet().removeIf(key -> key.entity() == entity);
+        } else {
+            missing.invalidate(new Key(entity, id));
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        missing.invalidateAll();
+    }
+
+    private record Key(CacheEntity entity, Long id) {
+    }
+}
@@ -0,0 +1,99 @@
+package pe.com.yzm.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import pe.com.yzm.expose.response.RoleResponse;
+import pe.com.yzm.mapper.RoleMapper;
+import pe.com.yzm.repository.RoleRepository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * <b>Class</b>: RoleSnapshot <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoleSnapshot {
+
+    private final RoleRepository roleRepository;
+    private final RoleMapper roleMapper;
+    private final ObjectMapper objectMapper;
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+
+    /**
+     * Loads the roles once the application is ready. Until the first load completes the service reads the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh().subscribe(
+                snapshot -> log.info("Role snapshot loaded with {} roles", snapshot.roles().size()),
+                error -> log.error("Role snapshot could not be loaded", error));
+    }
+
+    @Scheduled(initialDelayString = "${app.role-cache.refresh-interval:PT1H}",
+            fixedDelayString = "${app.role-cache.refresh-interval:PT1H}")
+    public void scheduledRefresh() {
+        refresh().subscribe(
+                snapshot -> log.debug("Role snapshot refreshed with {} roles", snapshot.roles().size()),
+                error -> log.error("Role snapshot could not be refreshed, keeping the previous one", error));
+    }
+
+    /**
+     * Reads all roles and replaces the snapshot. The previous snapshot is kept if the read fails.
+     *
+     * @return A Mono emitting the new snapshot.
+     */
+    public Mono<Snapshot> refresh() {
+        return roleRepository.findAll()
+                .map(roleMapper::toRoleResponse)
+                .collectList()
+                .flatMap(roles -> Mono.fromCallable(() -> new Snapshot(List.copyOf(roles),
+                        roles.stream().collect(Collectors.toUnmodifiableMap(RoleResponse::getId, Function.identity())),
+                        objectMapper.writeValueAsBytes(roles),
+                        LocalDateTime.now())))
+                .doOnNext(current::set);
+    }
+
+    /**
+     * Returns the current snapshot.
+     *
+     * @return A Mono emitting the snapshot, or Mono.empty() if it was not loaded yet.
+     */
+    public Mono<Snapshot> get() {
+        return Mono.justOrEmpty(current.get());
+    }
+
+    /**
+     * Immutable view of the roles table.
+     *
+     * @param roles    The roles in the order returned by the database.
+     * @param byId     The roles indexed by ID.
+     * @param json     The roles already encoded as a JSON array; must not be modified.
+     * @param loadedAt The moment the snapshot was read.
+     */
+    public record Snapshot(List<RoleResponse> roles, Map<Long, RoleResponse> byId, byte[] json,
+                           LocalDateTime loadedAt) {
+    }
+}
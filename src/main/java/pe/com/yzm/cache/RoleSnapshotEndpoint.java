@@ -0,0 +1,54 @@
+package pe.com.yzm.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * <b>Class</b>: RoleSnapshotEndpoint <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "rolecache")
+public class RoleSnapshotEndpoint {
+
+    private final RoleSnapshot roleSnapshot;
+
+    @ReadOperation
+    public Mono<Map<String, Object>> info() {
+        return roleSnapshot.get()
+                .map(RoleSnapshotEndpoint::describe)
+                .defaultIfEmpty(Map.of("loaded", false));
+    }
+
+    /**
+     * Reloads the roles on demand, e.g. after editing the roles table: POST /actuator/rolecache.
+     */
+    @WriteOperation
+    public Mono<Map<String, Object>> refresh() {
+        return roleSnapshot.refresh()
+                .map(RoleSnapshotEndpoint::describe);
+    }
+
+    private static Map<String, Object> describe(RoleSnapshot.Snapshot snapshot) {
+        return Map.of("loaded", true,
+                "count", snapshot.roles().size(),
+                "bytes", snapshot.json().length,
+                "loadedAt", snapshot.loadedAt().toString());
+    }
+}
@@ -0,0 +1,86 @@
+package pe.com.yzm.cache;
+
+import pe.com.yzm.datasource.DataSourceRoute;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * <b>Class</b>: SingleFlight <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+public class SingleFlight<K, V> {
+
+    // Keys tracked at once before new loads stop being coalesced
+    public static final int DEFAULT_MAX_KEYS = 10_000;
+
+    private final Map<Flight<K>, Mono<V>> calls = new ConcurrentHashMap<>();
+    private final int maxKeys;
+
+    public SingleFlight(int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * Runs the loader once for all the concurrent subscribers of the same key and fans its result out to them.
+     * A subscriber cancelling does not affect the others; the load is only cancelled when all of them cancel.
+     * The key is released as soon as the load terminates, so later calls always load again. When more than
+     * {@code maxKeys} keys are in flight the call is not coalesced.
+     * <p>
+     * The loader runs with the Reactor Context of the first subscriber, so loads are only shared between
+     * subscribers on the same data source route. A read-your-writes read, routed to the primary, is never
+     * coalesced: a load started before its write could return the row as it was before.
+     *
+     * @param key    The key identifying the load.
+     * @param loader The load to share.
+     * @return A Mono emitting the result of the shared load.
+     */
+    public Mono<V> execute(K key, Supplier<Mono<V>> loader) {
+        return Mono.deferContextual(context -> {
+            DataSourceRoute route = context.getOrDefault(DataSourceRoute.CONTEXT_KEY, null);
+            if (route == DataSourceRoute.PRIMARY) {
+                return loader.get();
+            }
+            Flight<K> flight = new Flight<>(key, route);
+            Mono<V> inFlight = calls.get(flight);
+            if (inFlight != null) {
+                return inFlight;
+            }
+            if (calls.size() >= maxKeys) {
+                return loader.get();
+            }
+            AtomicReference<Mono<V>> self = new AtomicReference<>();
+            Mono<V> call = Mono.defer(loader)
+                    .doFinally(signal -> calls.remove(flight, self.get()))
+                    .flux()
+                    .publish()
+                    .refCount()
+                    .singleOrEmpty();
+            self.set(call);
+            Mono<V> existing = calls.putIfAbsent(flight, call);
+            return existing != null ? existing : call;
+        });
+    }
+
+    /**
+     * @return The number of keys currently in flight.
+     */
+    public int inFlight() {
+        return calls.size();
+    }
+
+    private record Flight<K>(K key, DataSourceRoute route) {
+    }
+}
@@ -0,0 +1,64 @@
+package pe.com.yzm.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import pe.com.yzm.util.CacheNames;
+
+import java.util.Optional;
+
+/**
+ * <b>Class</b>: SpringCacheInvalidationHandler <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class SpringCacheInvalidationHandler implements CacheInvalidationHandler {
+
+    private final CacheManager cacheManager;
+
+    @Override
+    public void invalidate(CacheEntity entity, Long id) {
+        switch (entity) {
+            case COMPANY -> {
+                evict(CacheNames.COMPANIES, id);
+                clear(CacheNames.COMPANIES_BY_USER);
+            }
+            case PROJECT -> evict(CacheNames.PROJECTS, id);
+            default -> {
+                // No Spring cache holds the other entities
+            }
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        cacheManager.getCacheNames().forEach(this::clear);
+    }
+
+    private void evict(String cacheName, Long id) {
+        if (id == null) {
+            clear(cacheName);
+        } else {
+            cache(cacheName).ifPresent(cache -> cache.evict(id));
+        }
+    }
+
+    private void clear(String cacheName) {
+        cache(cacheName).ifPresent(Cache::clear);
+    }
+
+    private Optional<Cache> cache(String cacheName) {
+        return Optional.ofNullable(cacheManager.getCache(cacheName));
+    }
+}
@@ -0,0 +1,35 @@
+package pe.com.yzm.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import pe.com.yzm.util.CallerRateLimiter;
+
+/**
+ * <b>Class</b>: ActivityExportConfig <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@Configuration
+public class ActivityExportConfig {
+
+    /**
+     * Limits how many activity exports each caller may run at once and start per period, since every export
+     * holds a database connection and reads the whole activity table.
+     *
+     * @param properties The export settings.
+     * @return The rate limiter of the activity export.
+     */
+    @Bean
+    public CallerRateLimiter activityExportRateLimiter(ActivityExportProperties properties) {
+        return new CallerRateLimiter(properties.getMaxConcurrentPerCaller(), properties.getExportsPerPeriod(),
+                properties.getPeriod());
+    }
+}
@@ -0,0 +1,43 @@
+package pe.com.yzm.config;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * <b>Class</b>: ActivityExportProperties <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@Getter
+@Setter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@ConfigurationProperties(prefix = "app.activity-export")
+public class ActivityExportProperties {
+
+    // Rows requested from the database at a time while the export is read
+    Integer fetchSize = 1000;
+
+    // Rows joined into each buffer written to the response
+    Integer rowsPerBuffer = 256;
+
+    // Exports a single caller may run at the same time
+    Integer maxConcurrentPerCaller = 1;
+
+    // Exports a single caller may start within each period
+    Integer exportsPerPeriod = 10;
+
+    Duration period = Duration.ofHours(1);
+}
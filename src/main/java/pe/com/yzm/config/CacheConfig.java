@@ -0,0 +1,34 @@
+package pe.com.yzm.config;
+
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * <b>Class</b>: CacheConfig <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Switches the Caffeine caches to async mode, which lets {@code @Cacheable} store the values emitted by
+     * Mono and Flux repository methods. Size, TTL and statistics come from {@code spring.cache.caffeine.spec}.
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> asyncCaffeineCacheManager() {
+        return cacheManager -> cacheManager.setAsyncCacheMode(true);
+    }
+}
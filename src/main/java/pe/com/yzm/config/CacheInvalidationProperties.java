@@ -0,0 +1,45 @@
+package pe.com.yzm.config;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * <b>Class</b>: CacheInvalidationProperties <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@Getter
+@Setter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@ConfigurationProperties(prefix = "app.cache-invalidation")
+public class CacheInvalidationProperties {
+
+    // Listens to the notifications of the other instances when true
+    Boolean enabled = Boolean.TRUE;
+
+    // Postgres channel used by LISTEN/NOTIFY
+    String channel = "cache_invalidation";
+
+    // Notifications received within this window are applied together
+    Duration coalesceWindow = Duration.ofMillis(100);
+
+    // Above this many distinct entities in one window every cache is cleared instead
+    Integer coalesceMaxSize = 256;
+
+    // Delay bounds between reconnection attempts of the listener
+    Duration reconnectMinBackoff = Duration.ofSeconds(1);
+    Duration reconnectMaxBackoff = Duration.ofSeconds(30);
+}
@@ -0,0 +1,111 @@
+package pe.com.yzm.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.reactivestreams.Publisher;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.AbstractJackson2Encoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <b>Class</b>: CodecConfig <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@Configuration
+public class CodecConfig {
+
+    /**
+     * Registers CBOR and Smile next to JSON, so a caller choosing {@code application/cbor} or
+     * {@code application/x-jackson-smile} in its Accept or Content-Type header gets a binary body. The mappers
+     * are built from the Boot builder to keep the same modules and date handling as the JSON one.
+     *
+     * @param objectMapperBuilder The prototype builder configured by Spring Boot.
+     * @return The customizer adding the binary codecs to the server and client codecs.
+     */
+    @Bean
+    public CodecCustomizer binaryJacksonCodecs(Jackson2ObjectMapperBuilder objectMapperBuilder) {
+        var cborMapper = objectMapperBuilder.factory(new CBORFactory()).build();
+        var smileMapper = objectMapperBuilder.factory(new SmileFactory()).build();
+        return configurer -> {
+            configurer.defaultCodecs().jackson2SmileEncoder(new AggregatingSmileEncoder(smileMapper));
+            configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smileMapper));
+            configurer.customCodecs().register(new AggregatingCborEncoder(cborMapper));
+            configurer.customCodecs().register(new Jackson2CborDecoder(cborMapper));
+        };
+    }
+
+    /**
+     * The CBOR encoder of Spring only encodes single values and rejects publishers. Controller results are always
+     * handed over as a publisher, so a Mono is encoded as its value and a Flux as one CBOR array.
+     */
+    static class AggregatingCborEncoder extends Jackson2CborEncoder {
+
+        AggregatingCborEncoder(ObjectMapper mapper) {
+            super(mapper);
+        }
+
+        @Override
+        public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory,
+                                       ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+            return encodeAsOneValue(this, inputStream, bufferFactory, elementType, mimeType, hints);
+        }
+    }
+
+    /**
+     * The Smile encoder of Spring joins the elements of a Flux with the textual JSON array brackets and commas,
+     * which is not valid Smile. Outside the streaming Smile type a Flux is encoded as one Smile array instead.
+     */
+    static class AggregatingSmileEncoder extends Jackson2SmileEncoder {
+
+        AggregatingSmileEncoder(ObjectMapper mapper) {
+            super(mapper);
+        }
+
+        @Override
+        public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory,
+                                       ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+            if (mimeType != null && getStreamingMediaTypes().stream().anyMatch(mimeType::isCompatibleWith)) {
+                return super.encode(inputStream, bufferFactory, elementType, mimeType, hints);
+            }
+            return encodeAsOneValue(this, inputStream, bufferFactory, elementType, mimeType, hints);
+        }
+    }
+
+    private static Flux<DataBuffer> encodeAsOneValue(AbstractJackson2Encoder encoder, Publisher<?> inputStream,
+                                                     DataBufferFactory bufferFactory, ResolvableType elementType,
+                                                     MimeType mimeType, Map<String, Object> hints) {
+        if (inputStream instanceof Mono<?> mono) {
+            return mono.map(value -> encoder.encodeValue(value, bufferFactory, elementType, mimeType, hints)).flux();
+        }
+        ResolvableType listType = ResolvableType.forClassWithGenerics(List.class, elementType);
+        return Flux.from(inputStream)
+                .collectList()
+                .map(list -> encoder.encodeValue(list, bufferFactory, listType, mimeType, hints))
+                .flux();
+    }
+}
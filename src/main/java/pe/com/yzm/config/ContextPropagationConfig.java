@@ -0,0 +1,37 @@
+package pe.com.yzm.config;
+
+import io.micrometer.context.ContextRegistry;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.Configuration;
+import pe.com.yzm.logging.TransactionLogger;
+
+/**
+ * <b>Class</b>: ContextPropagationConfig <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@Configuration
+public class ContextPropagationConfig implements InitializingBean {
+
+    /**
+     * Registers the MDC entry of the transaction id as a thread local restored from the Reactor Context. With
+     * {@code spring.reactor.context-propagation=auto} Reactor sets it before running each operator and clears it
+     * afterwards, so the value never leaks to the next request served by the same thread.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        ContextRegistry.getInstance().registerThreadLocalAccessor(TransactionLogger.TRANSACTION_ID,
+                () -> MDC.get(TransactionLogger.TRANSACTION_ID),
+                value -> MDC.put(TransactionLogger.TRANSACTION_ID, value),
+                () -> MDC.remove(TransactionLogger.TRANSACTION_ID));
+    }
+}
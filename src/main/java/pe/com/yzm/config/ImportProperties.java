@@ -0,0 +1,33 @@
+package pe.com.yzm.config;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * <b>Class</b>: ImportProperties <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@Getter
+@Setter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@ConfigurationProperties(prefix = "app.import")
+public class ImportProperties {
+
+    // Number of valid rows written by each batched INSERT statement, each chunk in its own transaction
+    Integer chunkSize = 500;
+
+    // Rejected rows detailed in the report; the rest are only counted
+    Integer maxReportedErrors = 1000;
+}
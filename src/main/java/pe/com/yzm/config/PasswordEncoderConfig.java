@@ -1,14 +1,49 @@
 package pe.com.yzm.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Configuration
 public class PasswordEncoderConfig {
 
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder passwordEncoder(PasswordProperties passwordProperties) {
+        return new BCryptPasswordEncoder(passwordProperties.getStrength());
+    }
+
+    /**
+     * Bounded scheduler used for password hashing, so that BCrypt never runs on the event loop.
+     * Once the queue is full new tasks are rejected instead of piling up behind slow hashes.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler passwordHashScheduler(PasswordProperties passwordProperties, MeterRegistry meterRegistry) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "password-hash-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(passwordProperties.getThreads(),
+                passwordProperties.getThreads(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(passwordProperties.getQueueCapacity()), threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+        Gauge.builder("password.hash.queue.size", executor, pool -> pool.getQueue().size())
+                .description("Password hashing tasks waiting for a thread")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing tasks running")
+                .register(meterRegistry);
+        return Schedulers.fromExecutorService(executor, "password-hash");
     }
 }
@@ -0,0 +1,36 @@
+package pe.com.yzm.config;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * <b>Class</b>: PasswordProperties <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@Getter
+@Setter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@ConfigurationProperties(prefix = "app.password")
+public class PasswordProperties {
+
+    // BCrypt cost factor (log2 of the number of rounds), between 4 and 31
+    Integer strength = 10;
+
+    // Number of threads dedicated to hashing
+    Integer threads = Runtime.getRuntime().availableProcessors();
+
+    // Hashing tasks allowed to wait for a thread before new ones are rejected
+    Integer queueCapacity = 100;
+}
@@ -0,0 +1,61 @@
+package pe.com.yzm.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import pe.com.yzm.datasource.QueryStatsConnectionFactory;
+import pe.com.yzm.datasource.QueryStatsFilter;
+import pe.com.yzm.datasource.QueryStatsRecorder;
+
+/**
+ * <b>Class</b>: QueryStatsConfig <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.query-stats", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryStatsConfig {
+
+    private static final String CONNECTION_FACTORY_BEAN = "connectionFactory";
+
+    /**
+     * Decorates the ConnectionFactory bean itself, whether the auto-configured pool or the read replica routing
+     * one, so repositories, DatabaseClient and the transaction manager keep sharing the same instance.
+     */
+    @Bean
+    public static BeanPostProcessor queryStatsConnectionFactoryPostProcessor(
+            ObjectProvider<QueryStatsRecorder> queryStatsRecorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (CONNECTION_FACTORY_BEAN.equals(beanName) && bean instanceof ConnectionFactory connectionFactory
+                        && !(bean instanceof QueryStatsConnectionFactory)) {
+                    return new QueryStatsConnectionFactory(connectionFactory, queryStatsRecorder.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public QueryStatsRecorder queryStatsRecorder(QueryStatsProperties properties, MeterRegistry meterRegistry) {
+        return new QueryStatsRecorder(properties, meterRegistry);
+    }
+
+    @Bean
+    public QueryStatsFilter queryStatsFilter(QueryStatsRecorder queryStatsRecorder) {
+        return new QueryStatsFilter(queryStatsRecorder);
+    }
+}
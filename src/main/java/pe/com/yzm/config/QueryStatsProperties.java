@@ -0,0 +1,40 @@
+package pe.com.yzm.config;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * <b>Class</b>: QueryStatsProperties <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@Getter
+@Setter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@ConfigurationProperties(prefix = "app.query-stats")
+public class QueryStatsProperties {
+
+    Boolean enabled = Boolean.TRUE;
+
+    // Statements slower than this are logged with their SQL
+    Duration slowQueryThreshold = Duration.ofMillis(500);
+
+    // Statements a single request may run before it is reported, 0 to disable the check
+    Integer queryBudget = 50;
+
+    // Fails the statement that exceeds the budget instead of only logging it, meant for tests
+    Boolean failOnBudgetExceeded = Boolean.FALSE;
+}
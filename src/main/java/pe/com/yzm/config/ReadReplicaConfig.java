@@ -0,0 +1,89 @@
+package pe.com.yzm.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcConnectionDetails;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import pe.com.yzm.datasource.ReadOnlyRoutingAspect;
+import pe.com.yzm.datasource.ReadReplicaPool;
+import pe.com.yzm.datasource.ReadReplicaRoutingConnectionFactory;
+import pe.com.yzm.datasource.ReadYourWritesTracker;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <b>Class</b>: ReadReplicaConfig <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.read-replica", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ReadReplicaPool readReplicaPool(ReadReplicaProperties properties, R2dbcConnectionDetails connectionDetails) {
+        ConnectionFactoryOptions primaryOptions = connectionDetails.getConnectionFactoryOptions();
+        Map<String, ConnectionPool> pools = new LinkedHashMap<>();
+        for (int index = 0; index < properties.getUrls().size(); index++) {
+            ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(properties.getUrls().get(index))
+                    .mutate();
+            Object username = properties.getUsername() != null
+                    ? properties.getUsername() : primaryOptions.getValue(ConnectionFactoryOptions.USER);
+            Object password = properties.getPassword() != null
+                    ? properties.getPassword() : primaryOptions.getValue(ConnectionFactoryOptions.PASSWORD);
+            if (username != null) {
+                options.option(ConnectionFactoryOptions.USER, username.toString());
+            }
+            if (password != null) {
+                options.option(ConnectionFactoryOptions.PASSWORD, password.toString());
+            }
+            pools.put("replica-" + index, new ConnectionPool(ConnectionPoolConfiguration
+                    .builder(ConnectionFactories.get(options.build()))
+                    .maxSize(properties.getPoolMaxSize())
+                    .build()));
+        }
+        return new ReadReplicaPool(pools, properties.getHealthCheckTimeout());
+    }
+
+    /**
+     * Replaces the auto-configured ConnectionFactory, so repositories, DatabaseClient and the transaction manager
+     * all go through the routing one. Without a READ route in the context every connection comes from the primary.
+     */
+    @Bean
+    public ReadReplicaRoutingConnectionFactory connectionFactory(R2dbcConnectionDetails connectionDetails,
+                                                                 R2dbcProperties r2dbcProperties,
+                                                                 ReadReplicaPool readReplicaPool) {
+        R2dbcProperties.Pool pool = r2dbcProperties.getPool();
+        ConnectionPool primary = new ConnectionPool(ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(connectionDetails.getConnectionFactoryOptions()))
+                .initialSize(pool.getInitialSize())
+                .maxSize(pool.getMaxSize())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .build());
+        return new ReadReplicaRoutingConnectionFactory(primary, readReplicaPool);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReadReplicaProperties properties) {
+        return new ReadYourWritesTracker(properties.getReadYourWritesWindow());
+    }
+
+    @Bean
+    public ReadOnlyRoutingAspect readOnlyRoutingAspect(ReadYourWritesTracker readYourWritesTracker) {
+        return new ReadOnlyRoutingAspect(readYourWritesTracker);
+    }
+}
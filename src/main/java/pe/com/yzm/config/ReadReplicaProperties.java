@@ -0,0 +1,50 @@
+package pe.com.yzm.config;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <b>Class</b>: ReadReplicaProperties <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@Getter
+@Setter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@ConfigurationProperties(prefix = "app.read-replica")
+public class ReadReplicaProperties {
+
+    // Routes read-only service methods to the replicas when true
+    Boolean enabled = Boolean.FALSE;
+
+    // R2DBC URLs of the replicas, e.g. r2dbc:postgresql://replica-1:5432/db
+    List<String> urls = new ArrayList<>();
+
+    // Credentials of the replicas; the primary ones are used when not set
+    String username;
+    String password;
+
+    // Connections kept by each replica pool
+    Integer poolMaxSize = 10;
+
+    // Time after a write during which the reads of the same transaction id go to the primary
+    Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    // Maximum time for the health check query of a replica
+    Duration healthCheckTimeout = Duration.ofSeconds(2);
+}
@@ -0,0 +1,76 @@
+package pe.com.yzm.config;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <b>Class</b>: StreamLogProperties <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@Getter
+@Setter
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@ConfigurationProperties(prefix = "app.stream-log")
+public class StreamLogProperties {
+
+    // How the output of streaming endpoints is logged when no endpoint override applies
+    Mode mode = Mode.SUMMARY;
+
+    // Fraction of transaction ids whose streaming output is logged, between 0 and 1
+    Double sampleRate = 0.1;
+
+    // Number of elements included in a summary line
+    Integer firstElements = 3;
+
+    // Overrides by endpoint key, e.g. app.stream-log.endpoints.user-listar.mode=FULL
+    Map<String, Endpoint> endpoints = new HashMap<>();
+
+    /**
+     * Resolves the settings of an endpoint, falling back to the global ones for unset values.
+     *
+     * @param endpoint The endpoint key.
+     * @return The effective settings of the endpoint.
+     */
+    public Endpoint resolve(String endpoint) {
+        Endpoint override = endpoints.get(endpoint);
+        Endpoint resolved = new Endpoint();
+        resolved.setMode(override != null && override.getMode() != null ? override.getMode() : mode);
+        resolved.setSampleRate(override != null && override.getSampleRate() != null ? override.getSampleRate() : sampleRate);
+        resolved.setFirstElements(override != null && override.getFirstElements() != null
+                ? override.getFirstElements() : firstElements);
+        return resolved;
+    }
+
+    public enum Mode {
+        // Only errors are logged
+        NONE,
+        // One line per request with count, size, duration and the first elements
+        SUMMARY,
+        // One line per emitted element
+        FULL
+    }
+
+    @Getter
+    @Setter
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    public static class Endpoint {
+        Mode mode;
+        Double sampleRate;
+        Integer firstElements;
+    }
+}
@@ -0,0 +1,57 @@
+package pe.com.yzm.datasource;
+
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * <b>Class</b>: DataSourceRoute <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+public enum DataSourceRoute {
+    PRIMARY,
+    READ;
+
+    // Reactor context key read by the routing ConnectionFactory when a connection is created
+    public static final String CONTEXT_KEY = DataSourceRoute.class.getName();
+
+    /**
+     * Marks the subscriber context so that the connections of the pipeline are taken from a replica.
+     *
+     * @param context The context of the subscriber.
+     * @return The context with the READ route.
+     */
+    public static Context read(Context context) {
+        return context.put(CONTEXT_KEY, READ);
+    }
+
+    /**
+     * Marks the subscriber context of a read that must see the writes of its own transaction.
+     *
+     * @param context The context of the subscriber.
+     * @return The context with the PRIMARY route.
+     */
+    public static Context primary(Context context) {
+        return context.put(CONTEXT_KEY, PRIMARY);
+    }
+
+    /**
+     * Tells whether a read must skip the caches shared by every request. Reads routed to a replica may see rows
+     * older than the last eviction, and read-your-writes reads may see rows other requests are not routed to yet,
+     * so only reads left without a route fill the caches.
+     *
+     * @param context The context of the subscriber.
+     * @return True if the read was routed, to a replica or to the primary.
+     */
+    public static boolean bypassesSharedCaches(ContextView context) {
+        return context.hasKey(CONTEXT_KEY);
+    }
+}
@@ -0,0 +1,366 @@
+package pe.com.yzm.datasource;
+
+import io.r2dbc.spi.Batch;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.ConnectionMetadata;
+import io.r2dbc.spi.IsolationLevel;
+import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import io.r2dbc.spi.Statement;
+import io.r2dbc.spi.TransactionDefinition;
+import io.r2dbc.spi.ValidationDepth;
+import io.r2dbc.spi.Wrapped;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.DisposableBean;
+import pe.com.yzm.logging.TransactionLogger;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * <b>Class</b>: QueryStatsConnectionFactory <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+public class QueryStatsConnectionFactory implements ConnectionFactory, Wrapped<ConnectionFactory>, DisposableBean {
+
+    private final ConnectionFactory delegate;
+    private final QueryStatsRecorder queryStatsRecorder;
+    private final AtomicBoolean disposed = new AtomicBoolean();
+
+    public QueryStatsConnectionFactory(ConnectionFactory delegate, QueryStatsRecorder queryStatsRecorder) {
+        this.delegate = delegate;
+        this.queryStatsRecorder = queryStatsRecorder;
+    }
+
+    /**
+     * Takes the transaction id from the subscriber context when the connection is acquired, since statements are
+     * later executed on the connection without access to it.
+     */
+    @Override
+    public Publisher<? extends Connection> create() {
+        return Mono.deferContextual(context -> Mono.from(delegate.create())
+                .map(connection -> new QueryStatsConnection(connection,
+                        context.getOrDefault(TransactionLogger.TRANSACTION_ID, null))));
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return delegate.getMetadata();
+    }
+
+    @Override
+    public ConnectionFactory unwrap() {
+        return delegate;
+    }
+
+    /**
+     * Closes the decorated factory. The auto-configured pool is declared with a {@code dispose} destroy method and
+     * the routing factory as a DisposableBean, so both are exposed and the first call wins.
+     */
+    public void dispose() {
+        if (!disposed.compareAndSet(false, true)) {
+            return;
+        }
+        if (delegate instanceof DisposableBean disposableBean) {
+            try {
+                disposableBean.destroy();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        } else if (delegate instanceof Disposable disposable) {
+            disposable.dispose();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        dispose();
+    }
+
+    private final class QueryStatsConnection implements Connection, Wrapped<Connection> {
+
+        private final Connection connection;
+        private final String transactionId;
+
+        private QueryStatsConnection(Connection connection, String transactionId) {
+            this.connection = connection;
+            this.transactionId = transactionId;
+        }
+
+        @Override
+        public Statement createStatement(String sql) {
+            return new QueryStatsStatement(connection.createStatement(sql), sql, transactionId);
+        }
+
+        @Override
+        public Publisher<Void> beginTransaction() {
+            return connection.beginTransaction();
+        }
+
+        @Override
+        public Publisher<Void> beginTransaction(TransactionDefinition definition) {
+            return connection.beginTransaction(definition);
+        }
+
+        @Override
+        public Publisher<Void> close() {
+            return connection.close();
+        }
+
+        @Override
+        public Publisher<Void> commitTransaction() {
+            return connection.commitTransaction();
+        }
+
+        @Override
+        public Batch createBatch() {
+            return connection.createBatch();
+        }
+
+        @Override
+        public Publisher<Void> createSavepoint(String name) {
+            return connection.createSavepoint(name);
+        }
+
+        @Override
+        public boolean isAutoCommit() {
+            return connection.isAutoCommit();
+        }
+
+        @Override
+        public ConnectionMetadata getMetadata() {
+            return connection.getMetadata();
+        }
+
+        @Override
+        public IsolationLevel getTransactionIsolationLevel() {
+            return connection.getTransactionIsolationLevel();
+        }
+
+        @Override
+        public Publisher<Void> releaseSavepoint(String name) {
+            return connection.releaseSavepoint(name);
+        }
+
+        @Override
+        public Publisher<Void> rollbackTransaction() {
+            return connection.rollbackTransaction();
+        }
+
+        @Override
+        public Publisher<Void> rollbackTransactionToSavepoint(String name) {
+            return connection.rollbackTransactionToSavepoint(name);
+        }
+
+        @Override
+        public Publisher<Void> setAutoCommit(boolean autoCommit) {
+            return connection.setAutoCommit(autoCommit);
+        }
+
+        @Override
+        public Publisher<Void> setLockWaitTimeout(Duration timeout) {
+            return connection.setLockWaitTimeout(timeout);
+        }
+
+        @Override
+        public Publisher<Void> setStatementTimeout(Duration timeout) {
+            return connection.setStatementTimeout(timeout);
+        }
+
+        @Override
+        public Publisher<Void> setTransactionIsolationLevel(IsolationLevel isolationLevel) {
+            return connection.setTransactionIsolationLevel(isolationLevel);
+        }
+
+        @Override
+        public Publisher<Boolean> validate(ValidationDepth depth) {
+            return connection.validate(depth);
+        }
+
+        @Override
+        public Connection unwrap() {
+            return connection;
+        }
+    }
+
+    private final class QueryStatsStatement implements Statement {
+
+        private final Statement statement;
+        private final String sql;
+        private final String transactionId;
+
+        private QueryStatsStatement(Statement statement, String sql, String transactionId) {
+            this.statement = statement;
+            this.sql = sql;
+            this.transactionId = transactionId;
+        }
+
+        @Override
+        public Statement add() {
+            statement.add();
+            return this;
+        }
+
+        @Override
+        public Statement bind(int index, Object value) {
+            statement.bind(index, value);
+            return this;
+        }
+
+        @Override
+        public Statement bind(String name, Object value) {
+            statement.bind(name, value);
+            return this;
+        }
+
+        @Override
+        public Statement bindNull(int index, Class<?> type) {
+            statement.bindNull(index, type);
+            return this;
+        }
+
+        @Override
+        public Statement bindNull(String name, Class<?> type) {
+            statement.bindNull(name, type);
+            return this;
+        }
+
+        @Override
+        public Statement fetchSize(int rows) {
+            statement.fetchSize(rows);
+            return this;
+        }
+
+        @Override
+        public Statement returnGeneratedValues(String... columns) {
+            statement.returnGeneratedValues(columns);
+            return this;
+        }
+
+        /**
+         * Counts the statement against the request budget when it is subscribed; a budget error is signalled
+         * before anything reaches the database. A statement batched with {@link #add()} emits one result per
+         * binding, and is still recorded once, when the last of them has been consumed.
+         */
+        @Override
+        public Publisher<? extends Result> execute() {
+            return Flux.defer(() -> {
+                queryStatsRecorder.statementStarted(transactionId, sql);
+                ExecutionStats stats = new ExecutionStats(sql, transactionId, System.nanoTime());
+                return Flux.from(statement.execute())
+                        .map(result -> new QueryStatsResult(result, stats.resultEmitted(), new AtomicBoolean()))
+                        .doFinally(signal -> stats.release());
+            });
+        }
+    }
+
+    // Recorded once the execute publisher has terminated and every result it emitted has been consumed
+    private final class ExecutionStats {
+
+        private final String sql;
+        private final String transactionId;
+        private final long start;
+        private final AtomicLong rows = new AtomicLong();
+        // Starts at one for the execute publisher itself
+        private final AtomicInteger pending = new AtomicInteger(1);
+
+        private ExecutionStats(String sql, String transactionId, long start) {
+            this.sql = sql;
+            this.transactionId = transactionId;
+            this.start = start;
+        }
+
+        private ExecutionStats resultEmitted() {
+            pending.incrementAndGet();
+            return this;
+        }
+
+        private void release() {
+            if (pending.decrementAndGet() == 0) {
+                queryStatsRecorder.statementFinished(transactionId, sql, System.nanoTime() - start, rows.get());
+            }
+        }
+    }
+
+    private static final class QueryStatsResult implements Result {
+
+        private final Result result;
+        private final ExecutionStats stats;
+        // Shared with the results it filters, so only the one consumed releases it
+        private final AtomicBoolean consumed;
+
+        private QueryStatsResult(Result result, ExecutionStats stats, AtomicBoolean consumed) {
+            this.result = result;
+            this.stats = stats;
+            this.consumed = consumed;
+        }
+
+        @Override
+        public Publisher<Long> getRowsUpdated() {
+            return Flux.from(result.getRowsUpdated())
+                    .doOnNext(stats.rows::addAndGet)
+                    .doFinally(signal -> release());
+        }
+
+        @Override
+        public <T> Publisher<T> map(BiFunction<Row, RowMetadata, ? extends T> mappingFunction) {
+            return Flux.<T>from(result.map((row, metadata) -> {
+                        stats.rows.incrementAndGet();
+                        return mappingFunction.apply(row, metadata);
+                    }))
+                    .doFinally(signal -> release());
+        }
+
+        @Override
+        public <T> Publisher<T> map(Function<? super Readable, ? extends T> mappingFunction) {
+            return Flux.<T>from(result.map(readable -> {
+                        stats.rows.incrementAndGet();
+                        return mappingFunction.apply(readable);
+                    }))
+                    .doFinally(signal -> release());
+        }
+
+        @Override
+        public Result filter(Predicate<Segment> filter) {
+            return new QueryStatsResult(result.filter(filter), stats, consumed);
+        }
+
+        @Override
+        public <T> Publisher<T> flatMap(Function<Segment, ? extends Publisher<? extends T>> mappingFunction) {
+            return Flux.<T>from(result.flatMap(segment -> {
+                        if (segment instanceof RowSegment) {
+                            stats.rows.incrementAndGet();
+                        }
+                        return mappingFunction.apply(segment);
+                    }))
+                    .doFinally(signal -> release());
+        }
+
+        private void release() {
+            if (consumed.compareAndSet(false, true)) {
+                stats.release();
+            }
+        }
+    }
+}
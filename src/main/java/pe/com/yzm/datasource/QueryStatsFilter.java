@@ -0,0 +1,44 @@
+package pe.com.yzm.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import pe.com.yzm.logging.TransactionLogger;
+import reactor.core.publisher.Mono;
+
+/**
+ * <b>Class</b>: QueryStatsFilter <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@RequiredArgsConstructor
+public class QueryStatsFilter implements WebFilter, Ordered {
+
+    private final QueryStatsRecorder queryStatsRecorder;
+
+    /**
+     * Closes the query statistics of the request once its response has been written or cancelled.
+     */
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        return Mono.deferContextual(context -> chain.filter(exchange)
+                .doFinally(signal -> queryStatsRecorder.requestFinished(
+                        context.getOrDefault(TransactionLogger.TRANSACTION_ID, null))));
+    }
+
+    // Runs inside TransactionIdFilter, which provides the transaction id
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 1;
+    }
+}
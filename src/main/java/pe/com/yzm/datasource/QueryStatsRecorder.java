@@ -0,0 +1,152 @@
+package pe.com.yzm.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import pe.com.yzm.config.QueryStatsProperties;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <b>Class</b>: QueryStatsRecorder <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@Slf4j
+public class QueryStatsRecorder {
+
+    private static final Set<String> COMMANDS = Set.of("SELECT", "INSERT", "UPDATE", "DELETE", "WITH");
+
+    private final QueryStatsProperties properties;
+    private final MeterRegistry meterRegistry;
+    // Requests are removed when they end; the expiry only collects those whose end was never seen
+    private final Cache<String, RequestStats> requests = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofMinutes(5))
+            .build();
+
+    public QueryStatsRecorder(QueryStatsProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Counts a statement of the request and checks the query budget.
+     *
+     * @param transactionId The transaction id of the request, or null outside of a request.
+     * @param sql           The statement about to run.
+     * @throws IllegalStateException If the request went over its budget and failing is enabled.
+     */
+    public void statementStarted(String transactionId, String sql) {
+        if (transactionId == null) {
+            return;
+        }
+        int queries = requests.get(transactionId, key -> new RequestStats()).queries.incrementAndGet();
+        int budget = properties.getQueryBudget();
+        if (budget > 0 && queries > budget) {
+            String message = String.format("Request %s ran %d statements, over its budget of %d. Last one: %s",
+                    transactionId, queries, budget, sql);
+            if (Boolean.TRUE.equals(properties.getFailOnBudgetExceeded())) {
+                throw new IllegalStateException(message);
+            }
+            if (queries == budget + 1) {
+                log.warn(message);
+            }
+        }
+    }
+
+    /**
+     * Records the latency and rows of a statement once its results have been consumed, and logs it when it is
+     * slower than the configured threshold.
+     *
+     * @param transactionId The transaction id of the request, or null outside of a request.
+     * @param sql           The statement.
+     * @param nanos         The time from execution until all its results were consumed.
+     * @param rows          The rows returned, or updated for a statement without rows.
+     */
+    public void statementFinished(String transactionId, String sql, long nanos, long rows) {
+        String command = command(sql);
+        Timer.builder("db.query.duration")
+                .tag("command", command)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("db.query.rows")
+                .tag("command", command)
+                .register(meterRegistry)
+                .record(rows);
+        if (transactionId != null) {
+            RequestStats stats = requests.getIfPresent(transactionId);
+            if (stats != null) {
+                stats.rows.addAndGet(rows);
+                stats.nanos.addAndGet(nanos);
+            }
+        }
+        if (nanos >= properties.getSlowQueryThreshold().toNanos()) {
+            log.warn("Slow query transactionId={} durationMs={} rows={} sql={}", transactionId,
+                    TimeUnit.NANOSECONDS.toMillis(nanos), rows, sql);
+        }
+    }
+
+    /**
+     * Closes the statistics of a request, recording how many statements it ran.
+     *
+     * @param transactionId The transaction id of the request.
+     */
+    public void requestFinished(String transactionId) {
+        if (transactionId == null) {
+            return;
+        }
+        RequestStats stats = requests.asMap().remove(transactionId);
+        if (stats == null) {
+            return;
+        }
+        DistributionSummary.builder("db.request.queries")
+                .register(meterRegistry)
+                .record(stats.queries.get());
+        log.debug("Request queries transactionId={} queries={} rows={} durationMs={}", transactionId,
+                stats.queries.get(), stats.rows.get(), TimeUnit.NANOSECONDS.toMillis(stats.nanos.get()));
+    }
+
+    /**
+     * Returns the statements run so far by a request that has not finished.
+     *
+     * @param transactionId The transaction id of the request.
+     * @return The number of statements, 0 if the request ran none.
+     */
+    public int queries(String transactionId) {
+        RequestStats stats = requests.getIfPresent(transactionId);
+        return stats == null ? 0 : stats.queries.get();
+    }
+
+    // Keeps the command tag to a handful of values whatever the SQL
+    private static String command(String sql) {
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        String command = trimmed.substring(0, end).toUpperCase(Locale.ROOT);
+        return COMMANDS.contains(command) ? command : "OTHER";
+    }
+
+    private static final class RequestStats {
+        private final AtomicInteger queries = new AtomicInteger();
+        private final AtomicLong rows = new AtomicLong();
+        private final AtomicLong nanos = new AtomicLong();
+    }
+}
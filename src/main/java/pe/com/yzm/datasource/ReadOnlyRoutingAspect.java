@@ -0,0 +1,77 @@
+package pe.com.yzm.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import pe.com.yzm.logging.TransactionLogger;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.util.Arrays;
+
+/**
+ * <b>Class</b>: ReadOnlyRoutingAspect <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@Aspect
+@RequiredArgsConstructor
+public class ReadOnlyRoutingAspect {
+
+    private static final String READ_PREFIX = "find";
+    private static final String[] WRITE_PREFIXES = {"create", "save", "update", "delete", "import"};
+
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    /**
+     * Sends the {@code find*} service methods to the replicas, or to the primary when the same transaction id
+     * wrote recently, and records the transaction id of every mutation once it completes. The transaction id is read from the
+     * Reactor Context when the result is subscribed.
+     */
+    @Around("execution(public * pe.com.yzm.business.impl.*ServiceImpl.*(..))")
+    public Object route(ProceedingJoinPoint joinPoint) throws Throwable {
+        String method = joinPoint.getSignature().getName();
+        Object result = joinPoint.proceed();
+
+        if (method.startsWith(READ_PREFIX)) {
+            if (result instanceof Mono<?> mono) {
+                return Mono.deferContextual(context -> recentlyWrote(context)
+                        ? mono.contextWrite(DataSourceRoute::primary)
+                        : mono.contextWrite(DataSourceRoute::read));
+            }
+            if (result instanceof Flux<?> flux) {
+                return Flux.deferContextual(context -> recentlyWrote(context)
+                        ? flux.contextWrite(DataSourceRoute::primary)
+                        : flux.contextWrite(DataSourceRoute::read));
+            }
+        } else if (Arrays.stream(WRITE_PREFIXES).anyMatch(method::startsWith)) {
+            if (result instanceof Mono<?> mono) {
+                return Mono.deferContextual(context ->
+                        mono.doFinally(signal -> readYourWritesTracker.recordWrite(transactionId(context))));
+            }
+            if (result instanceof Flux<?> flux) {
+                return Flux.deferContextual(context ->
+                        flux.doFinally(signal -> readYourWritesTracker.recordWrite(transactionId(context))));
+            }
+        }
+        return result;
+    }
+
+    private boolean recentlyWrote(ContextView context) {
+        return readYourWritesTracker.recentlyWrote(transactionId(context));
+    }
+
+    private static String transactionId(ContextView context) {
+        return context.getOrDefault(TransactionLogger.TRANSACTION_ID, null);
+    }
+}
@@ -0,0 +1,113 @@
+package pe.com.yzm.datasource;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <b>Class</b>: ReadReplicaPool <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@Slf4j
+public class ReadReplicaPool implements Disposable {
+
+    private final List<Replica> replicas;
+    private final Duration healthCheckTimeout;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public ReadReplicaPool(Map<String, ConnectionPool> pools, Duration healthCheckTimeout) {
+        this.replicas = pools.entrySet().stream()
+                .map(entry -> new Replica(entry.getKey(), entry.getValue()))
+                .toList();
+        this.healthCheckTimeout = healthCheckTimeout;
+    }
+
+    /**
+     * The replica pools by lookup key, to be registered in the routing ConnectionFactory.
+     */
+    public Map<String, ConnectionPool> targets() {
+        Map<String, ConnectionPool> targets = new LinkedHashMap<>();
+        replicas.forEach(replica -> targets.put(replica.key, replica.pool));
+        return targets;
+    }
+
+    /**
+     * Picks the next healthy replica in round-robin order.
+     *
+     * @return The lookup key of the replica, or empty when none is healthy and the primary must be used.
+     */
+    public Optional<String> nextHealthy() {
+        int size = replicas.size();
+        int start = Math.floorMod(cursor.getAndIncrement(), Math.max(size, 1));
+        for (int offset = 0; offset < size; offset++) {
+            Replica replica = replicas.get((start + offset) % size);
+            if (replica.healthy) {
+                return Optional.of(replica.key);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Runs {@code SELECT 1} against every replica. Replicas start unhealthy until their first check succeeds.
+     */
+    @Scheduled(fixedDelayString = "${app.read-replica.health-check-interval:PT10S}")
+    public void checkHealth() {
+        Flux.fromIterable(replicas)
+                .flatMap(replica -> ping(replica)
+                        .doOnNext(healthy -> {
+                            if (healthy != replica.healthy) {
+                                log.warn("Read replica {} is now {}", replica.key, healthy ? "healthy" : "unhealthy");
+                            }
+                            replica.healthy = healthy;
+                        }))
+                .subscribe();
+    }
+
+    private Mono<Boolean> ping(Replica replica) {
+        return Mono.usingWhen(replica.pool.create(),
+                        connection -> Flux.from(connection.createStatement("SELECT 1").execute())
+                                .flatMap(result -> result.map((row, metadata) -> row.get(0)))
+                                .then(Mono.just(Boolean.TRUE)),
+                        Connection::close)
+                .timeout(healthCheckTimeout)
+                .onErrorReturn(Boolean.FALSE);
+    }
+
+    @Override
+    public void dispose() {
+        replicas.forEach(replica -> replica.pool.dispose());
+    }
+
+    private static final class Replica {
+
+        private final String key;
+        private final ConnectionPool pool;
+        private volatile boolean healthy;
+
+        private Replica(String key, ConnectionPool pool) {
+            this.key = key;
+            this.pool = pool;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package pe.com.yzm.datasource;
+
+import io.r2dbc.pool.ConnectionPool;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+import reactor.core.publisher.Mono;
+
+/**
+ * <b>Class</b>: ReadReplicaRoutingConnectionFactory <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+public class ReadReplicaRoutingConnectionFactory extends AbstractRoutingConnectionFactory implements DisposableBean {
+
+    private final ConnectionPool primary;
+    private final ReadReplicaPool replicas;
+
+    public ReadReplicaRoutingConnectionFactory(ConnectionPool primary, ReadReplicaPool replicas) {
+        this.primary = primary;
+        this.replicas = replicas;
+        setTargetConnectionFactories(replicas.targets());
+        setDefaultTargetConnectionFactory(primary);
+    }
+
+    /**
+     * Uses a healthy replica when the subscriber context carries the READ route; an empty key selects the primary.
+     */
+    @Override
+    protected Mono<Object> determineCurrentLookupKey() {
+        return Mono.deferContextual(context -> context.getOrEmpty(DataSourceRoute.CONTEXT_KEY)
+                .filter(DataSourceRoute.READ::equals)
+                .flatMap(route -> replicas.nextHealthy())
+                .map(key -> Mono.<Object>just(key))
+                .orElseGet(Mono::empty));
+    }
+
+    @Override
+    public void destroy() {
+        primary.dispose();
+    }
+}
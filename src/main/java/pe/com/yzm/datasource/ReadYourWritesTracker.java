@@ -0,0 +1,61 @@
+package pe.com.yzm.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <b>Class</b>: ReadYourWritesTracker <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+public class ReadYourWritesTracker {
+
+    private final long windowNanos;
+    private final Map<String, Long> deadlines = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    /**
+     * Records that the transaction id has just written to the primary.
+     *
+     * @param transactionId The transaction id of the request, ignored when null.
+     */
+    public void recordWrite(String transactionId) {
+        if (transactionId != null && windowNanos > 0) {
+            deadlines.put(transactionId, System.nanoTime() + windowNanos);
+        }
+    }
+
+    /**
+     * Tells whether the reads of the transaction id must still go to the primary.
+     *
+     * @param transactionId The transaction id of the request.
+     * @return True if the transaction id wrote within the configured window.
+     */
+    public boolean recentlyWrote(String transactionId) {
+        if (transactionId == null) {
+            return false;
+        }
+        Long deadline = deadlines.get(transactionId);
+        return deadline != null && deadline - System.nanoTime() > 0;
+    }
+
+    @Scheduled(fixedDelayString = "PT1M")
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        deadlines.values().removeIf(deadline -> deadline - now <= 0);
+    }
+}
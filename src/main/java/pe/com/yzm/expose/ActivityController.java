@@ -1,17 +1,37 @@
 package pe.com.yzm.expose;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
 import pe.com.yzm.business.ActivityService;
-import pe.com.yzm.core.model.HeaderRequest;
-import pe.com.yzm.core.model.HeadersConstant;
 import pe.com.yzm.expose.request.ActivityCreateRequest;
+import pe.com.yzm.expose.request.ActivityFilterRequest;
 import pe.com.yzm.expose.request.ActivityUpdateRequest;
+import pe.com.yzm.expose.response.ActivityBatchResponse;
 import pe.com.yzm.expose.response.ActivityResponse;
+import pe.com.yzm.expose.response.BatchResponse;
+import pe.com.yzm.expose.response.ImportResponse;
+import pe.com.yzm.expose.response.PageResponse;
+import pe.com.yzm.util.BatchUtil;
+import pe.com.yzm.util.PageUtil;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * <b>Class</b>: ActivityController <br/>
  * <b>Copyright</b>: 2024 Yovanny Zeballos Medina<br/>.
@@ -27,63 +47,109 @@ import reactor.core.publisher.Mono;
  */
 @RestController
 @RequiredArgsConstructor
+@Validated
 @RequestMapping("/actividad")
 public class ActivityController {
 
     private final ActivityService activityService;
 
     @GetMapping("/listar")
-    public Flux<ActivityResponse> findAll(
-            @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction
+    public Mono<? extends PageResponse<?>> findAll(
+            @RequestParam(value = "limit", defaultValue = PageUtil.DEFAULT_LIMIT) @Min(1) @Max(PageUtil.MAX_LIMIT) Integer limit,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "fields", required = false) String fields
+    ) {
+        if (fields != null && !fields.isBlank()) {
+            return activityService.findAllFields(limit, after, fields);
+        }
+        return activityService.findAll(limit, after);
+    }
+
+    @GetMapping("/buscar")
+    public Mono<PageResponse<ActivityResponse>> findAllByFilter(
+            @RequestParam(value = "projectId", required = false) @Min(1) Long projectId,
+            @RequestParam(value = "hourBagId", required = false) @Min(1) Long hourBagId,
+            @RequestParam(value = "userActivityId", required = false) @Min(1) Long userActivityId,
+            @RequestParam(value = "limit", defaultValue = PageUtil.DEFAULT_LIMIT) @Min(1) @Max(PageUtil.MAX_LIMIT) Integer limit,
+            @RequestParam(value = "after", required = false) String after
     ) {
-        final var headerRequest = HeaderRequest.builder()
-                .transactionId(idTransaction)
+        final var filter = ActivityFilterRequest.builder()
+                .projectId(projectId)
+                .hourBagId(hourBagId)
+                .userActivityId(userActivityId)
                 .build();
-        return activityService.findAll(headerRequest);
+        return activityService.findAllByFilter(filter, limit, after);
+    }
+
+    @GetMapping(value = "/listar", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<ActivityResponse> findAllStream() {
+        return activityService.findAllStream();
+    }
+
+    @GetMapping(value = "/exportar", produces = "text/csv")
+    public ResponseEntity<Flux<DataBuffer>> exportCosts(
+            ServerWebExchange exchange
+    ) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("actividades.csv").build().toString())
+                .body(activityService.findAllCostsCsv(caller(exchange),
+                        exchange.getResponse().bufferFactory()));
+    }
+
+    @GetMapping("/obtener")
+    public Mono<BatchResponse<ActivityResponse>> findByIds(
+            @RequestParam(value = "ids") @NotEmpty @Size(max = BatchUtil.MAX_IDS) List<Long> ids
+    ) {
+        return activityService.findByIds(ids);
     }
 
     @GetMapping("/obtener/{id}")
     public Mono<ActivityResponse> findById(
-            @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction,
             @PathVariable(value = "id") Long id
     ) {
-        final var headerRequest = HeaderRequest.builder()
-                .transactionId(idTransaction)
-                .build();
-        return activityService.findById(headerRequest, id);
+        return activityService.findById(id);
     }
 
     @PostMapping("/crear")
     public Mono<ActivityResponse> create(
-            @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction,
             @Valid @RequestBody ActivityCreateRequest activityCreateRequest
     ) {
-        final var headerRequest = HeaderRequest.builder()
-                .transactionId(idTransaction)
-                .build();
-        return activityService.create(headerRequest, activityCreateRequest);
+        return activityService.create(activityCreateRequest);
+    }
+
+    @PostMapping("/crear-lote")
+    public Mono<ActivityBatchResponse> createBatch(
+            @Size(min = 1, max = 10000) @RequestBody List<@Valid ActivityCreateRequest> activityCreateRequests
+    ) {
+        return activityService.createBatch(activityCreateRequests);
+    }
+
+    @PostMapping(value = "/importar", consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Mono<ImportResponse> importAll(
+            @RequestBody Flux<ActivityCreateRequest> rows
+    ) {
+        return activityService.importActivities(rows);
     }
 
     @PutMapping("/actualizar")
     public Mono<ActivityResponse> update(
-            @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction,
             @Valid @RequestBody ActivityUpdateRequest activityRequest
     ) {
-        final var headerRequest = HeaderRequest.builder()
-                .transactionId(idTransaction)
-                .build();
-        return activityService.update(headerRequest, activityRequest);
+        return activityService.update(activityRequest);
     }
 
     @DeleteMapping("/eliminar/{id}")
     public Mono<Void> delete(
-            @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction,
             @PathVariable(value = "id") Long id
     ) {
-        final var headerRequest = HeaderRequest.builder()
-                .transactionId(idTransaction)
-                .build();
-        return activityService.delete(headerRequest, id);
+        return activityService.delete(id);
+    }
+
+    // Forwarded headers only reach the remote address through server.forward-headers-strategy, never from the client
+    private static String caller(ServerWebExchange exchange) {
+        return Optional.ofNullable(exchange.getRequest().getRemoteAddress())
+                .map(InetSocketAddress::getHostString)
+                .orElse("unknown");
     }
-    
 }
@@ -1,18 +1,33 @@
 package pe.com.yzm.expose;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
 import pe.com.yzm.business.CompanyService;
-import pe.com.yzm.core.model.HeaderRequest;
-import pe.com.yzm.core.model.HeadersConstant;
+import pe.com.yzm.cache.CacheEntity;
+import pe.com.yzm.cache.EntityVersions;
 import pe.com.yzm.expose.request.CompanyCreateRequest;
 import pe.com.yzm.expose.request.CompanyUpdateRequest;
+import pe.com.yzm.expose.response.BatchResponse;
 import pe.com.yzm.expose.response.CompanyResponse;
+import pe.com.yzm.expose.response.ImportResponse;
+import pe.com.yzm.expose.response.PageResponse;
+import pe.com.yzm.util.BatchUtil;
+import pe.com.yzm.util.PageUtil;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * <b>Class</b>: ConpanyController <br/>
  * <b>Copyright</b>: 2024 Yovanny Zeballos Medina<br/>.
@@ -33,70 +48,77 @@ import reactor.core.publisher.Mono;
 public class CompanyController {
 
     private final CompanyService companyService;
+    private final EntityVersions entityVersions;
 
     @GetMapping("/listar")
-    public Flux<CompanyResponse> findAllCompanies(
-        @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction
+    public Mono<PageResponse<CompanyResponse>> findAllCompanies(
+        @RequestParam(value = "limit", defaultValue = PageUtil.DEFAULT_LIMIT) @Min(1) @Max(PageUtil.MAX_LIMIT) Integer limit,
+        @RequestParam(value = "after", required = false) String after
     ) {
-        final var headerRequest = HeaderRequest.builder()
-            .transactionId(idTransaction)
-            .build();
-        return companyService.findAllCompany(headerRequest);
+        return companyService.findAllCompany(limit, after);
+    }
+
+    @GetMapping(value = "/listar", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<CompanyResponse> findAllCompaniesStream() {
+        return companyService.findAllCompanyStream();
     }
 
     @GetMapping("/listar/usuario/{id}")
-    public Flux<CompanyResponse> findAllCompaniesByUser(
-            @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction,
-            @PathVariable(value = "id") Long id
+    public Mono<ResponseEntity<Flux<CompanyResponse>>> findAllCompaniesByUser(
+            @PathVariable(value = "id") Long id,
+            ServerWebExchange exchange
+    ) {
+        return entityVersions.etag(CacheEntity.COMPANY)
+                .map(eTag -> exchange.checkNotModified(eTag)
+                        ? ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).<Flux<CompanyResponse>>build()
+                        : ResponseEntity.ok().eTag(eTag).body(companyService.findAllCompanyByUser(id)));
+    }
+
+    @GetMapping("/obtener")
+    public Mono<BatchResponse<CompanyResponse>> findCompaniesByIds(
+        @RequestParam(value = "ids") @NotEmpty @Size(max = BatchUtil.MAX_IDS) List<Long> ids
     ) {
-        final var headerRequest = HeaderRequest.builder()
-                .transactionId(idTransaction)
-                .build();
-        return companyService.findAllCompanyByUser(headerRequest, id);
+        return companyService.findByCompanyIds(ids);
     }
 
     @GetMapping("/obtener/{id}")
-    public Mono<CompanyResponse> findCompanyById(
-        @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction,
-        @PathVariable(value = "id") Long id
+    public Mono<ResponseEntity<CompanyResponse>> findCompanyById(
+        @PathVariable(value = "id") Long id,
+        ServerWebExchange exchange
     ) {
-        final var headerRequest = HeaderRequest.builder()
-            .transactionId(idTransaction)
-            .build();
-        return companyService.findByCompanyId(headerRequest, id);
+        return entityVersions.etag(CacheEntity.COMPANY)
+            .flatMap(eTag -> exchange.checkNotModified(eTag)
+                ? Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).<CompanyResponse>build())
+                : companyService.findByCompanyId(id)
+                    .map(response -> ResponseEntity.ok().eTag(eTag).body(response)));
     }
 
     @PostMapping("/crear")
     public Mono<CompanyResponse> create(
-        @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction,
         @Valid @RequestBody CompanyCreateRequest companyCreateRequest
     ) {
-        final var headerRequest = HeaderRequest.builder()
-            .transactionId(idTransaction)
-            .build();
-        return companyService.saveCompany(headerRequest, companyCreateRequest);
+        return companyService.saveCompany(companyCreateRequest);
+    }
+
+    @PostMapping(value = "/importar", consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Mono<ImportResponse> importAll(
+        @RequestBody Flux<CompanyCreateRequest> rows
+    ) {
+        return companyService.importCompanies(rows);
     }
 
     @PutMapping("/actualizar")
     public Mono<CompanyResponse> update(
-        @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction,
         @Valid @RequestBody CompanyUpdateRequest companyRequest
     ) {
-        final var headerRequest = HeaderRequest.builder()
-            .transactionId(idTransaction)
-            .build();
-        return companyService.updateCompany(headerRequest, companyRequest);
+        return companyService.updateCompany(companyRequest);
     }
 
     @DeleteMapping("/eliminar/{id}")
     public Mono<Void> delete(
-        @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction,
         @PathVariable(value = "id") Long id
     ) {
-        final var headerRequest = HeaderRequest.builder()
-            .transactionId(idTransaction)
-            .build();
-        return companyService.deleteCompany(headerRequest, id);
+        return companyService.deleteCompany(id);
     }
 }
 
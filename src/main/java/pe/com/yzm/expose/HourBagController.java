@@ -1,17 +1,32 @@
 package pe.com.yzm.expose;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
 import pe.com.yzm.business.HourBagService;
-import pe.com.yzm.core.model.HeaderRequest;
-import pe.com.yzm.core.model.HeadersConstant;
+import pe.com.yzm.cache.CacheEntity;
+import pe.com.yzm.cache.EntityVersions;
 import pe.com.yzm.expose.request.HourBagCreateRequest;
 import pe.com.yzm.expose.request.HourBagUpdateRequest;
+import pe.com.yzm.expose.response.BatchResponse;
 import pe.com.yzm.expose.response.HourBagResponse;
+import pe.com.yzm.expose.response.PageResponse;
+import pe.com.yzm.util.BatchUtil;
+import pe.com.yzm.util.PageUtil;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * <b>Class</b>: HourBagController <br/>
  * <b>Copyright</b>: 2024 Yovanny Zeballos Medina<br/>.
@@ -27,94 +42,105 @@ import reactor.core.publisher.Mono;
  */
 @RestController
 @RequiredArgsConstructor
+@Validated
 @RequestMapping("/bolsa-horas")
 public class HourBagController {
 
     private final HourBagService hourBagService;
+    private final EntityVersions entityVersions;
 
     /**
-     * Handles GET requests to retrieve all HourBag entities.
+     * Handles GET requests to retrieve a page of HourBag entities.
      *
-     * @param idTransaction The transaction ID from the request header.
-     * @return A Flux emitting all HourBagResponse entities.
+     * @param limit The maximum number of HourBags to return.
+     * @param after The cursor returned by the previous page, or null for the first page.
+     * @return A Mono emitting the page of HourBagResponse entities and the cursor of the next page.
      */
     @GetMapping("/listar")
-    public Flux<HourBagResponse> findAll(
-            @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction
+    public Mono<PageResponse<HourBagResponse>> findAll(
+            @RequestParam(value = "limit", defaultValue = PageUtil.DEFAULT_LIMIT) @Min(1) @Max(PageUtil.MAX_LIMIT) Integer limit,
+            @RequestParam(value = "after", required = false) String after
     ) {
-        final var headerRequest = HeaderRequest.builder()
-                .transactionId(idTransaction)
-                .build();
-        return hourBagService.findAll(headerRequest);
+        return hourBagService.findAll(limit, after);
+    }
+
+    /**
+     * Handles GET requests that accept NDJSON or Server-Sent Events by streaming every HourBag entity, so the
+     * client receives the first rows without waiting for the whole table.
+     *
+     * @return A Flux emitting all HourBagResponse entities.
+     */
+    @GetMapping(value = "/listar", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<HourBagResponse> findAllStream() {
+        return hourBagService.findAllStream();
     }
 
     /**
-     * Handles GET requests to retrieve all active HourBag entities.
+     * Handles GET requests to retrieve all active HourBag entities. Answers 304 without querying when the
+     * If-None-Match header still matches the current version of the hour bags.
      *
-     * @param idTransaction The transaction ID from the request header.
-     * @return A Flux emitting all active HourBagResponse entities.
+     * @param exchange The current exchange, used to evaluate the conditional request.
+     * @return A Mono emitting all active HourBagResponse entities tagged with a weak ETag, or an empty 304.
      */
     @GetMapping("/listar-activos")
-    public Flux<HourBagResponse> findAllActives(
-            @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction
+    public Mono<ResponseEntity<Flux<HourBagResponse>>> findAllActives(
+            ServerWebExchange exchange
+    ) {
+        return entityVersions.etag(CacheEntity.HOUR_BAG)
+                .map(eTag -> exchange.checkNotModified(eTag)
+                        ? ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).<Flux<HourBagResponse>>build()
+                        : ResponseEntity.ok().eTag(eTag).body(hourBagService.findAllActive()));
+    }
+
+    /**
+     * Handles GET requests to retrieve several HourBag entities with a single query.
+     *
+     * @param ids The IDs of the HourBags, e.g. {@code ?ids=1,2,3}.
+     * @return A Mono emitting the found HourBagResponses in request order and the IDs that were not found.
+     */
+    @GetMapping("/obtener")
+    public Mono<BatchResponse<HourBagResponse>> findByIds(
+            @RequestParam(value = "ids") @NotEmpty @Size(max = BatchUtil.MAX_IDS) List<Long> ids
     ) {
-        final var headerRequest = HeaderRequest.builder()
-                .transactionId(idTransaction)
-                .build();
-        return hourBagService.findAllActive(headerRequest);
+        return hourBagService.findByIds(ids);
     }
 
     /**
      * Handles POST requests to create a new HourBag entity.
      *
-     * @param idTransaction        The transaction ID from the request header.
      * @param hourBagCreateRequest The request body containing the data for the new HourBag.
      * @return A Mono emitting the created HourBagResponse entity.
      */
     @PostMapping("/crear")
     public Mono<HourBagResponse> create(
-            @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction,
             @Valid @RequestBody HourBagCreateRequest hourBagCreateRequest
     ) {
-        final var headerRequest = HeaderRequest.builder()
-                .transactionId(idTransaction)
-                .build();
-        return hourBagService.create(headerRequest, hourBagCreateRequest);
+        return hourBagService.create(hourBagCreateRequest);
     }
 
     /**
      * Handles PUT requests to update an existing HourBag entity.
      *
-     * @param idTransaction  The transaction ID from the request header.
      * @param hourBagRequest The request body containing the updated data for the HourBag.
      * @return A Mono emitting the updated HourBagResponse entity.
      */
     @PutMapping("/actualizar")
     public Mono<HourBagResponse> update(
-            @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction,
             @Valid @RequestBody HourBagUpdateRequest hourBagRequest
     ) {
-        final var headerRequest = HeaderRequest.builder()
-                .transactionId(idTransaction)
-                .build();
-        return hourBagService.update(headerRequest, hourBagRequest);
+        return hourBagService.update(hourBagRequest);
     }
 
     /**
      * Handles DELETE requests to delete an existing HourBag entity.
      *
-     * @param idTransaction The transaction ID from the request header.
-     * @param id            The ID of the HourBag to delete.
+     * @param id The ID of the HourBag to delete.
      * @return A Mono emitting completion signal when the HourBag is deleted.
      */
     @DeleteMapping("/eliminar/{id}")
     public Mono<Void> delete(
-            @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction,
             @PathVariable(value = "id") Long id
     ) {
-        final var headerRequest = HeaderRequest.builder()
-                .transactionId(idTransaction)
-                .build();
-        return hourBagService.delete(headerRequest, id);
+        return hourBagService.delete(id);
     }
 }
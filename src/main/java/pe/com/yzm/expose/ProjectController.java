@@ -1,18 +1,30 @@
 package pe.com.yzm.expose;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
 import pe.com.yzm.business.ProjectService;
-import pe.com.yzm.core.model.HeaderRequest;
-import pe.com.yzm.core.model.HeadersConstant;
+import pe.com.yzm.cache.CacheEntity;
+import pe.com.yzm.cache.EntityVersions;
 import pe.com.yzm.expose.request.ProjectCreateRequest;
 import pe.com.yzm.expose.request.ProjectUpdateRequest;
+import pe.com.yzm.expose.response.BatchResponse;
+import pe.com.yzm.expose.response.ImportResponse;
 import pe.com.yzm.expose.response.ProjectCompanyResponse;
 import pe.com.yzm.expose.response.ProjectResponse;
+import pe.com.yzm.util.BatchUtil;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * <b>Class</b>: ProjectController <br/>
  * <b>Copyright</b>: 2024 Yovanny Zeballos Medina<br/>.
@@ -27,64 +39,70 @@ import reactor.core.publisher.Mono;
  * </ul>
  */
 @RestController
+@Validated
 @RequestMapping("/proyecto")
 @RequiredArgsConstructor
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final EntityVersions entityVersions;
 
     @GetMapping("/listar/user/{id}")
-    public Flux<ProjectCompanyResponse> findAllProjects(
-            @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction,
-            @PathVariable(value = "id") Long id
+    public Mono<ResponseEntity<Flux<ProjectCompanyResponse>>> findAllProjects(
+            @PathVariable(value = "id") Long id,
+            ServerWebExchange exchange
+    ) {
+        return entityVersions.etag(CacheEntity.PROJECT, CacheEntity.COMPANY)
+                .map(eTag -> exchange.checkNotModified(eTag)
+                        ? ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag)
+                                .<Flux<ProjectCompanyResponse>>build()
+                        : ResponseEntity.ok().eTag(eTag).body(projectService.findAllProjectsByUserId(id)));
+    }
+
+    @GetMapping("/obtener")
+    public Mono<BatchResponse<ProjectResponse>> findProjectsByIds(
+            @RequestParam(value = "ids") @NotEmpty @Size(max = BatchUtil.MAX_IDS) List<Long> ids
     ) {
-        final var headerRequest = HeaderRequest.builder()
-                .transactionId(idTransaction)
-                .build();
-        return projectService.findAllProjectsByUserId(headerRequest, id);
+        return projectService.findByProjectIds(ids);
     }
 
     @GetMapping("/obtener/{id}")
-    public Mono<ProjectResponse> findProjectById(
-            @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction,
-            @PathVariable(value = "id") Long id
+    public Mono<ResponseEntity<ProjectResponse>> findProjectById(
+            @PathVariable(value = "id") Long id,
+            ServerWebExchange exchange
     ) {
-        final var headerRequest = HeaderRequest.builder()
-                .transactionId(idTransaction)
-                .build();
-        return projectService.findByProjectId(headerRequest, id);
+        return entityVersions.etag(CacheEntity.PROJECT)
+                .flatMap(eTag -> exchange.checkNotModified(eTag)
+                        ? Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).<ProjectResponse>build())
+                        : projectService.findByProjectId(id)
+                                .map(response -> ResponseEntity.ok().eTag(eTag).body(response)));
     }
 
     @PostMapping("/crear")
     public Mono<ProjectResponse> create(
-            @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction,
             @Valid @RequestBody ProjectCreateRequest projectCreateRequest
     ) {
-        final var headerRequest = HeaderRequest.builder()
-                .transactionId(idTransaction)
-                .build();
-        return projectService.saveProject(headerRequest, projectCreateRequest);
+        return projectService.saveProject(projectCreateRequest);
+    }
+
+    @PostMapping(value = "/importar", consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Mono<ImportResponse> importAll(
+            @RequestBody Flux<ProjectCreateRequest> rows
+    ) {
+        return projectService.importProjects(rows);
     }
 
     @PutMapping("/actualizar")
     public Mono<ProjectResponse> update(
-            @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction,
             @Valid @RequestBody ProjectUpdateRequest projectRequest
     ) {
-        final var headerRequest = HeaderRequest.builder()
-                .transactionId(idTransaction)
-                .build();
-        return projectService.updateProject(headerRequest, projectRequest);
+        return projectService.updateProject(projectRequest);
     }
 
     @DeleteMapping("/eliminar/{id}")
     public Mono<Void> delete(
-            @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction,
             @PathVariable(value = "id") Long id
     ) {
-        final var headerRequest = HeaderRequest.builder()
-                .transactionId(idTransaction)
-                .build();
-        return projectService.deleteProject(headerRequest, id);
+        return projectService.deleteProject(id);
     }
 }
@@ -1,14 +1,20 @@
 package pe.com.yzm.expose;
 
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import pe.com.yzm.business.RoleService;
-import pe.com.yzm.core.model.HeaderRequest;
-import pe.com.yzm.core.model.HeadersConstant;
+import pe.com.yzm.expose.response.BatchResponse;
 import pe.com.yzm.expose.response.RoleResponse;
-import reactor.core.publisher.Flux;
+import pe.com.yzm.util.BatchUtil;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * <b>Class</b>: RoleController <br/>
  * <b>Copyright</b>: 2024 Yovanny Zeballos Medina<br/>.
@@ -23,34 +29,35 @@ import reactor.core.publisher.Mono;
  * </ul>
  */
 @RestController
+@Validated
 @RequiredArgsConstructor
 @RequestMapping("/rol")
 public class RoleController {
 
   private final RoleService roleService;
 
-  @GetMapping("/listar")
-  public Flux<RoleResponse> findAllRoles(
-      @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction
-  ) {
-    final var headerRequest = HeaderRequest.builder()
-        .transactionId(idTransaction)
-        .build();
+  @GetMapping(value = "/listar", produces = MediaType.APPLICATION_JSON_VALUE)
+  public Mono<ResponseEntity<byte[]>> findAllRoles() {
+    return roleService.findAllRolesJson()
+        .map(json -> ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(json));
 
-    return roleService.findAllRoles(headerRequest);
+  }
 
+  @GetMapping("/obtener")
+  public Mono<BatchResponse<RoleResponse>> findRolesByIds(
+      @RequestParam(value = "ids") @NotEmpty @Size(max = BatchUtil.MAX_IDS) List<Long> ids
+  ) {
+    return roleService.findByRoleIds(ids);
   }
 
   @GetMapping("/obtener/{id}")
   public Mono<RoleResponse> findRoleById(
-      @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction,
       @PathVariable(value = "id") Long id
   ) {
-    final var headerRequest = HeaderRequest.builder()
-        .transactionId(idTransaction)
-        .build();
 
-    return roleService.findByRoleId(headerRequest, id);
+    return roleService.findByRoleId(id);
 
   }
 
@@ -1,17 +1,27 @@
 package pe.com.yzm.expose;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import pe.com.yzm.business.UserActivityService;
-import pe.com.yzm.core.model.HeaderRequest;
-import pe.com.yzm.core.model.HeadersConstant;
 import pe.com.yzm.expose.request.UserActivityCreateRequest;
 import pe.com.yzm.expose.request.UserActivityUpdateRequest;
+import pe.com.yzm.expose.response.BatchResponse;
+import pe.com.yzm.expose.response.PageResponse;
 import pe.com.yzm.expose.response.UserActivityResponse;
+import pe.com.yzm.util.BatchUtil;
+import pe.com.yzm.util.PageUtil;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * <b>Class</b>: UserActivityController <br/>
  * <b>Copyright</b>: 2024 Yovanny Zeballos Medina<br/>.
@@ -27,63 +37,58 @@ import reactor.core.publisher.Mono;
  */
 @RestController
 @RequiredArgsConstructor
+@Validated
 @RequestMapping("/usuario-actividad")
 public class UserActivityController {
 
     private final UserActivityService userActivityService;
 
     @GetMapping("/listar")
-    public Flux<UserActivityResponse> findAll(
-            @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction
+    public Mono<PageResponse<UserActivityResponse>> findAll(
+            @RequestParam(value = "limit", defaultValue = PageUtil.DEFAULT_LIMIT) @Min(1) @Max(PageUtil.MAX_LIMIT) Integer limit,
+            @RequestParam(value = "after", required = false) String after
+    ) {
+        return userActivityService.findAll(limit, after);
+    }
+
+    @GetMapping(value = "/listar", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<UserActivityResponse> findAllStream() {
+        return userActivityService.findAllStream();
+    }
+
+    @GetMapping("/obtener")
+    public Mono<BatchResponse<UserActivityResponse>> findByIds(
+            @RequestParam(value = "ids") @NotEmpty @Size(max = BatchUtil.MAX_IDS) List<Long> ids
     ) {
-        final var headerRequest = HeaderRequest.builder()
-                .transactionId(idTransaction)
-                .build();
-        return userActivityService.findAll(headerRequest);
+        return userActivityService.findByIds(ids);
     }
 
     @GetMapping("/obtener/{id}")
     public Mono<UserActivityResponse> findById(
-            @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction,
             @PathVariable(value = "id") Long id
     ) {
-        final var headerRequest = HeaderRequest.builder()
-                .transactionId(idTransaction)
-                .build();
-        return userActivityService.findById(headerRequest, id);
+        return userActivityService.findById(id);
     }
 
     @PostMapping("/crear")
     public Mono<UserActivityResponse> create(
-            @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction,
             @Valid @RequestBody UserActivityCreateRequest userActivityCreateRequest
     ) {
-        final var headerRequest = HeaderRequest.builder()
-                .transactionId(idTransaction)
-                .build();
-        return userActivityService.create(headerRequest, userActivityCreateRequest);
+        return userActivityService.create(userActivityCreateRequest);
     }
 
     @PutMapping("/actualizar")
     public Mono<UserActivityResponse> update(
-            @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction,
             @Valid @RequestBody UserActivityUpdateRequest userActivityRequest
     ) {
-        final var headerRequest = HeaderRequest.builder()
-                .transactionId(idTransaction)
-                .build();
-        return userActivityService.update(headerRequest, userActivityRequest);
+        return userActivityService.update(userActivityRequest);
     }
 
     @DeleteMapping("/eliminar/{id}")
     public Mono<Void> delete(
-            @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction,
             @PathVariable(value = "id") Long id
     ) {
-        final var headerRequest = HeaderRequest.builder()
-                .transactionId(idTransaction)
-                .build();
-        return userActivityService.delete(headerRequest, id);
+        return userActivityService.delete(id);
     }
     
 }
@@ -1,18 +1,27 @@
 package pe.com.yzm.expose;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import pe.com.yzm.business.UserService;
-import pe.com.yzm.core.model.HeaderRequest;
-import pe.com.yzm.core.model.HeadersConstant;
 import pe.com.yzm.expose.request.UserCreateRequest;
 import pe.com.yzm.expose.request.UserUpdateRequest;
+import pe.com.yzm.expose.response.BatchResponse;
+import pe.com.yzm.expose.response.PageResponse;
 import pe.com.yzm.expose.response.UserResponse;
+import pe.com.yzm.util.BatchUtil;
+import pe.com.yzm.util.PageUtil;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 /**
  * <b>Class</b>: UserController <br/>
  * <b>Copyright</b>: 2024 Yovanny Zeballos Medina<br/>.
@@ -35,57 +44,55 @@ public class UserController {
   private final UserService userService;
 
   @GetMapping("/listar")
-  public Flux<UserResponse> findAllUsers(
-      @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction
+  public Mono<? extends PageResponse<?>> findAllUsers(
+      @RequestParam(value = "limit", defaultValue = PageUtil.DEFAULT_LIMIT) @Min(1) @Max(PageUtil.MAX_LIMIT) Integer limit,
+      @RequestParam(value = "after", required = false) String after,
+      @RequestParam(value = "fields", required = false) String fields
+  ) {
+    if (fields != null && !fields.isBlank()) {
+      return userService.findAllUsersFields(limit, after, fields);
+    }
+    return userService.findAllUsers(limit, after);
+  }
+
+  @GetMapping(value = "/listar", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+  public Flux<UserResponse> findAllUsersStream() {
+    return userService.findAllUsersStream();
+  }
+
+  @GetMapping("/obtener")
+  public Mono<BatchResponse<UserResponse>> findUsersByIds(
+      @RequestParam(value = "ids") @NotEmpty @Size(max = BatchUtil.MAX_IDS) List<Long> ids
   ) {
-    final var headerRequest = HeaderRequest.builder()
-        .transactionId(idTransaction)
-        .build();
-    return userService.findAllUsers(headerRequest);
+    return userService.findUserByIds(ids);
   }
 
   @GetMapping("/obtener/{id}")
   public Mono<UserResponse> findUserById(
-      @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction,
       @PathVariable(value = "id") Long id
   ) {
-    final var headerRequest = HeaderRequest.builder()
-        .transactionId(idTransaction)
-        .build();
-    return userService.findUserById(headerRequest, id);
+    return userService.findUserById(id);
   }
 
   @PostMapping("/crear")
   public Mono<UserResponse> create(
-      @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction,
       @Valid @RequestBody UserCreateRequest userRequest
   ){
-    final var headerRequest = HeaderRequest.builder()
-        .transactionId(idTransaction)
-        .build();
-    return userService.saveUser(headerRequest, userRequest);
+    return userService.saveUser(userRequest);
   }
 
   @PutMapping("/actualizar")
   public Mono<UserResponse> actualizar(
-      @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction,
       @Valid @RequestBody UserUpdateRequest userRequest
   ){
-    final var headerRequest = HeaderRequest.builder()
-        .transactionId(idTransaction)
-        .build();
-    return userService.updateUser(headerRequest, userRequest);
+    return userService.updateUser(userRequest);
   }
 
   @DeleteMapping("/eliminar/{id}")
   public Mono<Void> delete(
-      @RequestHeader(value = HeadersConstant.TRANSACTION_ID) String idTransaction,
       @PathVariable(value = "id") Long id
   ){
-    final var headerRequest = HeaderRequest.builder()
-        .transactionId(idTransaction)
-        .build();
-    return userService.deleteUser(headerRequest, id);
+    return userService.deleteUser(id);
   }
 
 }
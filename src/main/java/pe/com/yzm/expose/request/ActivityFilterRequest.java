@@ -0,0 +1,33 @@
+package pe.com.yzm.expose.request;
+
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * <b>Class</b>: ActivityFilterRequest <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@Getter
+@Setter
+@ToString
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ActivityFilterRequest {
+
+    Long projectId;
+
+    Long hourBagId;
+
+    Long userActivityId;
+}
@@ -0,0 +1,112 @@
+package pe.com.yzm.logging;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import pe.com.yzm.config.StreamLogProperties;
+import pe.com.yzm.core.logger.LoggerUtil;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SignalType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * <b>Class</b>: StreamLogger <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class StreamLogger {
+
+    private static final int SAMPLE_BUCKETS = 10_000;
+
+    private final StreamLogProperties properties;
+
+    /**
+     * Builds the logging operator of a streaming endpoint according to its configured mode and sampling.
+     * Errors are always logged; the output is logged per element in FULL mode or as a single summary
+     * line in SUMMARY mode, and only for the sampled transaction ids. The transaction id is read from the
+     * Reactor Context of each subscription; a subscription without one is only logged when every id is.
+     *
+     * @param endpoint The endpoint key used to look up overrides.
+     * @return A function to be applied with {@code Flux#transform}.
+     */
+    public <T> Function<Flux<T>, Flux<T>> output(String endpoint) {
+        StreamLogProperties.Endpoint settings = properties.resolve(endpoint);
+        return flux -> Flux.deferContextual(context -> {
+            String transactionId = context.getOrDefault(TransactionLogger.TRANSACTION_ID, null);
+            if (settings.getMode() == StreamLogProperties.Mode.NONE
+                    || !isSampled(transactionId, settings.getSampleRate())) {
+                return flux.doOnError(error -> LoggerUtil.logError(transactionId, error));
+            }
+            if (settings.getMode() == StreamLogProperties.Mode.FULL) {
+                return flux
+                        .doOnNext(response -> LoggerUtil.logOutput(transactionId, transactionId, response.toString()))
+                        .doOnError(error -> LoggerUtil.logError(transactionId, error));
+            }
+            Summary summary = new Summary(settings.getFirstElements());
+            return flux
+                    .doOnNext(summary::add)
+                    .doOnError(error -> LoggerUtil.logError(transactionId, error))
+                    .doFinally(signal ->
+                            LoggerUtil.logOutput(transactionId, transactionId, summary.describe(endpoint, signal)));
+        });
+    }
+
+    private boolean isSampled(String transactionId, double sampleRate) {
+        if (sampleRate >= 1) {
+            return true;
+        }
+        if (transactionId == null) {
+            return false;
+        }
+        int bucket = Math.floorMod(transactionId.hashCode(), SAMPLE_BUCKETS);
+        return bucket < sampleRate * SAMPLE_BUCKETS;
+    }
+
+    /**
+     * Accumulates the statistics of one subscription. The size is the length in characters of the text of the
+     * first elements, extrapolated to the whole stream, so that no element other than those is ever converted
+     * to text. It is not the encoded size of the response.
+     */
+    private static final class Summary {
+
+        private final int firstElements;
+        private final long start = System.nanoTime();
+        private final List<String> first = new ArrayList<>();
+        private long count;
+        private long sampledChars;
+
+        private Summary(int firstElements) {
+            this.firstElements = firstElements;
+        }
+
+        private void add(Object element) {
+            if (count++ < firstElements) {
+                String text = element.toString();
+                first.add(text);
+                sampledChars += text.length();
+            }
+        }
+
+        private String describe(String endpoint, SignalType signal) {
+            long estimatedChars = first.isEmpty() ? 0 : sampledChars / first.size() * count;
+            return "endpoint=" + endpoint
+                    + " signal=" + signal
+                    + " count=" + count
+                    + " estimatedChars=" + estimatedChars
+                    + " durationMs=" + (System.nanoTime() - start) / 1_000_000
+                    + " first=" + first;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package pe.com.yzm.logging;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import pe.com.yzm.core.model.HeadersConstant;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.util.UUID;
+
+/**
+ * <b>Class</b>: TransactionIdFilter <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TransactionIdFilter implements WebFilter {
+
+    /**
+     * Reads the transaction id header once per request and writes it into the Reactor Context of the whole
+     * exchange. A request without the header gets a generated id, which is echoed in the response so the caller
+     * can still correlate its logs.
+     */
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String header = exchange.getRequest().getHeaders().getFirst(HeadersConstant.TRANSACTION_ID);
+        String transactionId = header == null || header.isBlank() ? UUID.randomUUID().toString() : header;
+        exchange.getResponse().getHeaders().set(HeadersConstant.TRANSACTION_ID, transactionId);
+        return chain.filter(exchange)
+                .contextWrite(Context.of(TransactionLogger.TRANSACTION_ID, transactionId));
+    }
+}
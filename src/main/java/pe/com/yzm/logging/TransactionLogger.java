@@ -0,0 +1,50 @@
+package pe.com.yzm.logging;
+
+import lombok.experimental.UtilityClass;
+import org.slf4j.MDC;
+import pe.com.yzm.core.logger.LoggerUtil;
+
+/**
+ * <b>Class</b>: TransactionLogger <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@UtilityClass
+public class TransactionLogger {
+
+    // Key of the transaction id in the Reactor Context and in the MDC
+    public static final String TRANSACTION_ID = "transactionId";
+
+    /**
+     * Returns the transaction id of the request being processed. {@link TransactionIdFilter} writes it into the
+     * Reactor Context and automatic context propagation restores it into the MDC on whichever thread runs the
+     * pipeline, so it is available in operators and at assembly time alike.
+     *
+     * @return The transaction id, or null outside of a request.
+     */
+    public String transactionId() {
+        return MDC.get(TRANSACTION_ID);
+    }
+
+    public void logInput(Object input) {
+        String transactionId = transactionId();
+        LoggerUtil.logInput(transactionId, transactionId, input);
+    }
+
+    public void logOutput(String output) {
+        String transactionId = transactionId();
+        LoggerUtil.logOutput(transactionId, transactionId, output);
+    }
+
+    public void logError(Throwable error) {
+        LoggerUtil.logError(transactionId(), error);
+    }
+}
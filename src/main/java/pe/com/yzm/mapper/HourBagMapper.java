@@ -4,7 +4,6 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import pe.com.yzm.expose.request.ActivityUpdateRequest;
 import pe.com.yzm.expose.request.HourBagCreateRequest;
-import pe.com.yzm.expose.request.HourBagUpdateRequest;
 import pe.com.yzm.expose.response.HourBagResponse;
 import pe.com.yzm.model.Activity;
 import pe.com.yzm.model.HourBag;
@@ -30,12 +29,4 @@ public abstract class HourBagMapper {
     @Mapping(target = "consumedHours", constant = "0")
     @Mapping(target = "status", constant = "true")
     public abstract HourBag hourBagCreateRequestToHourBag(HourBagCreateRequest hourRequest);
-
-    public HourBag hourBagUpdateRequestToHourBag(HourBag hourBag, HourBagUpdateRequest hourBagRequest) {
-        hourBag.setHours(hourBagRequest.getHours());
-        hourBag.setHourCost(hourBagRequest.getHourCost());
-        hourBag.setId(hourBagRequest.getId());
-        hourBag.setRegistrationDate(hourBagRequest.getRegistrationDate());
-        return hourBag;
-    }
 }
@@ -0,0 +1,42 @@
+package pe.com.yzm.mapper;
+
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.springframework.stereotype.Component;
+import pe.com.yzm.expose.response.ProjectCompanyResponse;
+
+import java.util.function.BiFunction;
+
+/**
+ * <b>Class</b>: ProjectCompanyRowMapper <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@Component
+public class ProjectCompanyRowMapper implements BiFunction<Row, RowMetadata, ProjectCompanyResponse> {
+
+    /**
+     * Converts a row of the proyectos JOIN empresas query to a ProjectCompanyResponse DTO.
+     *
+     * @param row      The row returned by the database.
+     * @param metadata The metadata of the row.
+     * @return A ProjectCompanyResponse DTO representing the project and the name of its company.
+     */
+    @Override
+    public ProjectCompanyResponse apply(Row row, RowMetadata metadata) {
+        return ProjectCompanyResponse.builder()
+                .id(row.get("id", Long.class))
+                .projectName(row.get("nombre", String.class))
+                .companyId(row.get("empresa_id", Long.class))
+                .companyName(row.get("empresa_nombre", String.class))
+                .build();
+    }
+}
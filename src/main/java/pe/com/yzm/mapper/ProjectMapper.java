@@ -2,7 +2,6 @@ package pe.com.yzm.mapper;
 
 import org.mapstruct.Mapper;
 import pe.com.yzm.expose.request.ProjectCreateRequest;
-import pe.com.yzm.expose.request.ProjectUpdateRequest;
 import pe.com.yzm.expose.response.ProjectCompanyResponse;
 import pe.com.yzm.expose.response.ProjectResponse;
 import pe.com.yzm.model.Company;
@@ -40,20 +39,6 @@ public abstract class ProjectMapper {
      */
     public abstract Project projectCreateRequestToProject(ProjectCreateRequest projectRequest);
 
-    /**
-     * Updates a Project entity with the details from a ProjectUpdateRequest DTO.
-     *
-     * @param projectUpdate The existing Project entity to be updated.
-     * @param projectRequest The ProjectUpdateRequest DTO containing the updated details.
-     * @return The updated Project entity.
-     */
-    public Project projectUpdateRequestToProject(Project projectUpdate, ProjectUpdateRequest projectRequest) {
-        projectUpdate.setId(projectRequest.getId());
-        projectUpdate.setName(projectRequest.getName());
-        projectUpdate.setCompanyId(projectRequest.getCompanyId());
-        return projectUpdate;
-    }
-
     /**
      * Converts a Project entity to a ProjectCompanyResponse DTO.
      *
@@ -0,0 +1,77 @@
+package pe.com.yzm.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import reactor.core.observability.micrometer.Micrometer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <b>Class</b>: ServiceMetricsAspect <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@Aspect
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    public static final String METRIC_NAME = "service.operation";
+    private static final String SERVICE_TAG = "service";
+    private static final String OPERATION_TAG = "operation";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Times the Mono and Flux returned by every service operation from subscription to termination. Reactor
+     * records {@code service.operation.flow.duration} tagged with the service, the operation, the outcome
+     * ({@code status}: completed, completedEmpty, error or cancelled) and the error type ({@code exception}).
+     * The elements emitted by each Flux subscription are recorded in {@code service.operation.elements}.
+     */
+    @Around("execution(public * pe.com.yzm.business.impl.*ServiceImpl.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object result = joinPoint.proceed();
+        String service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String operation = joinPoint.getSignature().getName();
+
+        if (result instanceof Mono<?> mono) {
+            return mono.name(METRIC_NAME)
+                    .tag(SERVICE_TAG, service)
+                    .tag(OPERATION_TAG, operation)
+                    .tap(Micrometer.metrics(meterRegistry));
+        }
+        if (result instanceof Flux<?> flux) {
+            DistributionSummary elements = DistributionSummary.builder(METRIC_NAME + ".elements")
+                    .tag(SERVICE_TAG, service)
+                    .tag(OPERATION_TAG, operation)
+                    .register(meterRegistry);
+            return countElements(flux, elements)
+                    .name(METRIC_NAME)
+                    .tag(SERVICE_TAG, service)
+                    .tag(OPERATION_TAG, operation)
+                    .tap(Micrometer.metrics(meterRegistry));
+        }
+        return result;
+    }
+
+    private static <T> Flux<T> countElements(Flux<T> flux, DistributionSummary elements) {
+        return Flux.defer(() -> {
+            AtomicLong count = new AtomicLong();
+            return flux.doOnNext(element -> count.incrementAndGet())
+                    .doFinally(signal -> elements.record(count.get()));
+        });
+    }
+}
@@ -0,0 +1,66 @@
+package pe.com.yzm.repository;
+
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import pe.com.yzm.model.Activity;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * <b>Class</b>: ActivityCustomRepository <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+public interface ActivityCustomRepository {
+
+    /**
+     * Inserts a chunk of activities with a single batched INSERT ... RETURNING statement.
+     *
+     * @param activities The activities to insert.
+     * @return A Flux emitting the generated IDs in the same order as the given activities.
+     */
+    Flux<Long> insertAll(List<Activity> activities);
+
+    /**
+     * Finds a page of activities ordered by ID, reading only the given columns. Properties without a selected
+     * column are left null.
+     *
+     * @param after   The ID to seek after.
+     * @param limit   The maximum number of activities to return.
+     * @param columns The columns of the SELECT list.
+     * @return A Flux emitting the partially read activities.
+     */
+    Flux<Activity> findPage(Long after, Integer limit, List<String> columns);
+
+    /**
+     * Finds a page of activities ordered by ID matching every given filter. A null filter is ignored.
+     *
+     * @param projectId      The project of the activities, or null.
+     * @param hourBagId      The HourBag of the activities, or null.
+     * @param userActivityId The UserActivity of the activities, or null.
+     * @param after          The ID to seek after.
+     * @param limit          The maximum number of activities to return.
+     * @return A Flux emitting the matching activities.
+     */
+    Flux<Activity> findPage(Long projectId, Long hourBagId, Long userActivityId, Long after, Integer limit);
+
+    /**
+     * Reads every activity joined with its HourBag and project, ordered by ID, fetching the rows from the
+     * server in chunks so that they are mapped as they arrive.
+     *
+     * @param fetchSize The number of rows requested from the server at a time.
+     * @param rowMapper Function mapping each row.
+     * @return A Flux emitting the mapped rows.
+     */
+    <T> Flux<T> findAllWithCost(int fetchSize, BiFunction<Row, RowMetadata, T> rowMapper);
+}
@@ -0,0 +1,118 @@
+package pe.com.yzm.repository;
+
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import io.r2dbc.spi.Statement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.r2dbc.core.DatabaseClient;
+import pe.com.yzm.model.Activity;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * <b>Class</b>: ActivityCustomRepositoryImpl <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@RequiredArgsConstructor
+public class ActivityCustomRepositoryImpl implements ActivityCustomRepository {
+
+    private static final String INSERT_ACTIVITY = """
+            INSERT INTO actividades (codigo, descripcion, proyecto_id, horas_esfuerzo, bolsa_hora_id, usuario_actividad_id)
+            VALUES ($1, $2, $3, $4, $5, $6)""";
+
+    private static final String FIND_ALL_WITH_COST = """
+            SELECT a.id, a.codigo, a.descripcion, a.proyecto_id, p.nombre AS proyecto_nombre, a.bolsa_hora_id,
+                   a.horas_esfuerzo, b.costo_hora, a.horas_esfuerzo * b.costo_hora AS costo
+            FROM actividades a
+            JOIN bolsas_horas b ON b.id = a.bolsa_hora_id
+            LEFT JOIN proyectos p ON p.id = a.proyecto_id
+            ORDER BY a.id""";
+
+    private final DatabaseClient databaseClient;
+    private final R2dbcEntityTemplate entityTemplate;
+
+    /**
+     * Binds every activity to the same prepared statement using {@link Statement#add()}, so the chunk is sent
+     * in one batch and each binding produces one result, in order, with its generated ID.
+     */
+    @Override
+    public Flux<Long> insertAll(List<Activity> activities) {
+        return databaseClient.inConnectionMany(connection -> {
+            Statement statement = connection.createStatement(INSERT_ACTIVITY).returnGeneratedValues("id");
+            for (int i = 0; i < activities.size(); i++) {
+                if (i > 0) {
+                    statement.add();
+                }
+                Activity activity = activities.get(i);
+                statement.bind(0, activity.getCode())
+                        .bind(1, activity.getDescription())
+                        .bind(2, activity.getProjectId())
+                        .bind(3, activity.getEffortHours())
+                        .bind(4, activity.getHourBagId())
+                        .bind(5, activity.getUserActivityId());
+            }
+            return Flux.from(statement.execute())
+                    .concatMap(result -> result.map((row, metadata) -> row.get("id", Long.class)));
+        });
+    }
+
+    @Override
+    public Flux<Activity> findPage(Long after, Integer limit, List<String> columns) {
+        return entityTemplate.select(Activity.class)
+                .matching(Query.query(Criteria.where("id").greaterThan(after))
+                        .columns(columns)
+                        .sort(Sort.by("id"))
+                        .limit(limit))
+                .all();
+    }
+
+    /**
+     * Adds only the filters that were given, so each combination is answered by the composite index that starts
+     * with its column and ends with the ID used as keyset.
+     */
+    @Override
+    public Flux<Activity> findPage(Long projectId, Long hourBagId, Long userActivityId, Long after, Integer limit) {
+        Criteria criteria = Criteria.where("id").greaterThan(after);
+        if (projectId != null) {
+            criteria = criteria.and("projectId").is(projectId);
+        }
+        if (hourBagId != null) {
+            criteria = criteria.and("hourBagId").is(hourBagId);
+        }
+        if (userActivityId != null) {
+            criteria = criteria.and("userActivityId").is(userActivityId);
+        }
+        return entityTemplate.select(Activity.class)
+                .matching(Query.query(criteria)
+                        .sort(Sort.by("id"))
+                        .limit(limit))
+                .all();
+    }
+
+    /**
+     * Sets a fetch size on the statement, so the driver reads the result with a portal in chunks driven by the
+     * demand of the subscriber instead of receiving the whole result set at once.
+     */
+    @Override
+    public <T> Flux<T> findAllWithCost(int fetchSize, BiFunction<Row, RowMetadata, T> rowMapper) {
+        return databaseClient.sql(FIND_ALL_WITH_COST)
+                .filter(statement -> statement.fetchSize(fetchSize))
+                .map(rowMapper)
+                .all();
+    }
+}
@@ -1,7 +1,9 @@
 package pe.com.yzm.repository;
 
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import pe.com.yzm.model.Activity;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -17,6 +19,18 @@ import reactor.core.publisher.Mono;
  *   </li>
  * </ul>
  */
-public interface ActivityRepository extends ReactiveCrudRepository<Activity, Long> {
+public interface ActivityRepository extends ReactiveCrudRepository<Activity, Long>, ActivityCustomRepository {
     Mono<Boolean> existsByHourBagId(Long hourBagId);
-}
\ No newline at end of file
+
+    @Query("SELECT * FROM actividades WHERE id > :after ORDER BY id LIMIT :limit")
+    Flux<Activity> findPage(Long after, Integer limit);
+
+    @Query("SELECT * FROM actividades WHERE id = ANY(:ids)")
+    Flux<Activity> findByIds(Long[] ids);
+
+    @Query("SELECT * FROM actividades WHERE id = :id FOR UPDATE")
+    Mono<Activity> findByIdForUpdate(Long id);
+
+    @Query("DELETE FROM actividades WHERE id = :id RETURNING *")
+    Mono<Activity> removeById(Long id);
+}
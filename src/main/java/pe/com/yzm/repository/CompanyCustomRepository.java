@@ -0,0 +1,30 @@
+package pe.com.yzm.repository;
+
+import pe.com.yzm.model.Company;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * <b>Class</b>: CompanyCustomRepository <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+public interface CompanyCustomRepository {
+
+    /**
+     * Inserts a chunk of companies with a single batched INSERT ... RETURNING statement.
+     *
+     * @param companies The companies to insert.
+     * @return A Flux emitting the generated IDs in the same order as the given companies.
+     */
+    Flux<Long> insertAll(List<Company> companies);
+}
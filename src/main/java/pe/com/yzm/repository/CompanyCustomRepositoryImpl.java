@@ -0,0 +1,51 @@
+package pe.com.yzm.repository;
+
+import io.r2dbc.spi.Statement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import pe.com.yzm.model.Company;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * <b>Class</b>: CompanyCustomRepositoryImpl <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@RequiredArgsConstructor
+public class CompanyCustomRepositoryImpl implements CompanyCustomRepository {
+
+    private static final String INSERT_COMPANY = "INSERT INTO empresas (nombre, usuario_id) VALUES ($1, $2)";
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Binds every company to the same prepared statement using {@link Statement#add()}, so the chunk is sent
+     * as one batch.
+     */
+    @Override
+    public Flux<Long> insertAll(List<Company> companies) {
+        return databaseClient.inConnectionMany(connection -> {
+            Statement statement = connection.createStatement(INSERT_COMPANY).returnGeneratedValues("id");
+            for (int i = 0; i < companies.size(); i++) {
+                if (i > 0) {
+                    statement.add();
+                }
+                Company company = companies.get(i);
+                statement.bind(0, company.getName())
+                        .bind(1, company.getUserId());
+            }
+            return Flux.from(statement.execute())
+                    .concatMap(result -> result.map((row, metadata) -> row.get("id", Long.class)));
+        });
+    }
+}
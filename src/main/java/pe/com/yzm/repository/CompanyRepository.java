@@ -1,8 +1,15 @@
 package pe.com.yzm.repository;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import pe.com.yzm.model.Company;
+import pe.com.yzm.util.CacheNames;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * <b>Class</b>: CompanyRepository <br/>
@@ -17,7 +24,45 @@ import reactor.core.publisher.Flux;
  *   </li>
  * </ul>
  */
-public interface CompanyRepository extends ReactiveCrudRepository<Company, Long> {
+public interface CompanyRepository extends ReactiveCrudRepository<Company, Long>, CompanyCustomRepository {
 
+    // A miss is not cached, so an id that does not exist yet is read again on every lookup
+    @Override
+    @Cacheable(cacheNames = CacheNames.COMPANIES, key = "#id", unless = "#result == null")
+    Mono<Company> findById(Long id);
+
+    @Cacheable(cacheNames = CacheNames.COMPANIES_BY_USER, key = "#userId")
     Flux<Company> findAllByUserId(Long userId);
+
+    // Same reads as findById and findAllByUserId, for the routed reads that must not fill the caches
+    @Query("SELECT * FROM empresas WHERE id = :id")
+    Mono<Company> findUncachedById(Long id);
+
+    @Query("SELECT * FROM empresas WHERE usuario_id = :userId")
+    Flux<Company> findUncachedAllByUserId(Long userId);
+
+    @Override
+    @CacheEvict(cacheNames = CacheNames.COMPANIES_BY_USER, key = "#entity.userId")
+    <S extends Company> Mono<S> save(S entity);
+
+    @Query("SELECT * FROM empresas WHERE id > :after ORDER BY id LIMIT :limit")
+    Flux<Company> findPage(Long after, Integer limit);
+
+    @Query("SELECT * FROM empresas WHERE id = ANY(:ids)")
+    Flux<Company> findByIds(Long[] ids);
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.COMPANIES, key = "#id"),
+            @CacheEvict(cacheNames = CacheNames.COMPANIES_BY_USER, allEntries = true)
+    })
+    @Query("UPDATE empresas SET nombre = :name, usuario_id = :userId WHERE id = :id RETURNING *")
+    Mono<Company> updateById(Long id, String name, Long userId);
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.COMPANIES, key = "#id"),
+            @CacheEvict(cacheNames = CacheNames.COMPANIES_BY_USER, allEntries = true)
+    })
+    @Modifying
+    @Query("DELETE FROM empresas WHERE id = :id")
+    Mono<Integer> removeById(Long id);
 }
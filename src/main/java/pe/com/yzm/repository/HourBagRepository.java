@@ -1,8 +1,14 @@
 package pe.com.yzm.repository;
 
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import pe.com.yzm.model.HourBag;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 /**
  * <b>Class</b>: HourBagRepository <br/>
@@ -20,4 +26,48 @@ import reactor.core.publisher.Flux;
 public interface HourBagRepository extends ReactiveCrudRepository<HourBag, Long> {
 
     Flux<HourBag> findByStatus(Boolean status);
-}
\ No newline at end of file
+
+    @Query("SELECT * FROM bolsas_horas WHERE id > :after ORDER BY id LIMIT :limit")
+    Flux<HourBag> findPage(Long after, Integer limit);
+
+    @Query("SELECT * FROM bolsas_horas WHERE id = ANY(:ids)")
+    Flux<HourBag> findByIds(Long[] ids);
+
+    /**
+     * Atomically adds hours to the consumed hours of a bag. A positive amount is only applied when the bag
+     * still has that many hours available; a negative amount releases hours and never goes below zero.
+     *
+     * @param id    The ID of the HourBag.
+     * @param hours The hours to consume, or negative hours to release.
+     * @return A Mono emitting the updated HourBag, or Mono.empty() if it does not exist or has not enough hours.
+     */
+    @Query("""
+            UPDATE bolsas_horas
+            SET horas_consumidas = GREATEST(COALESCE(horas_consumidas, 0) + :hours, 0)
+            WHERE id = :id AND horas - COALESCE(horas_consumidas, 0) >= :hours
+            RETURNING *""")
+    Mono<HourBag> adjustConsumedHours(Long id, Integer hours);
+
+    /**
+     * Updates a bag only if its new hours still cover the hours already consumed.
+     *
+     * @return A Mono emitting the updated HourBag, or Mono.empty() if it does not exist or the check failed.
+     */
+    @Query("""
+            UPDATE bolsas_horas
+            SET horas = :hours, costo_hora = :hourCost, fecha_registro = :registrationDate
+            WHERE id = :id AND COALESCE(horas_consumidas, 0) <= :hours
+            RETURNING *""")
+    Mono<HourBag> updateById(Long id, Integer hours, BigDecimal hourCost, LocalDateTime registrationDate);
+
+    /**
+     * Deletes a bag only if no activity references it.
+     *
+     * @return A Mono emitting the number of deleted rows, 0 if it does not exist or is still in use.
+     */
+    @Modifying
+    @Query("""
+            DELETE FROM bolsas_horas
+            WHERE id = :id AND NOT EXISTS (SELECT 1 FROM actividades WHERE bolsa_hora_id = :id)""")
+    Mono<Integer> removeUnusedById(Long id);
+}
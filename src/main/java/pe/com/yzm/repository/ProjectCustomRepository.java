@@ -0,0 +1,40 @@
+package pe.com.yzm.repository;
+
+import pe.com.yzm.expose.response.ProjectCompanyResponse;
+import pe.com.yzm.model.Project;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * <b>Class</b>: ProjectCustomRepository <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+public interface ProjectCustomRepository {
+
+    /**
+     * Fetches the projects of every company that belongs to a user, together with the company name,
+     * in a single query.
+     *
+     * @param userId The ID of the user that owns the companies.
+     * @return A Flux of ProjectCompanyResponse streamed as the rows arrive.
+     */
+    Flux<ProjectCompanyResponse> findAllWithCompanyByUserId(Long userId);
+
+    /**
+     * Inserts a chunk of projects with a single batched INSERT ... RETURNING statement.
+     *
+     * @param projects The projects to insert.
+     * @return A Flux emitting the generated IDs in the same order as the given projects.
+     */
+    Flux<Long> insertAll(List<Project> projects);
+}
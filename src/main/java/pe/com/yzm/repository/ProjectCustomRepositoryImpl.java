@@ -0,0 +1,77 @@
+package pe.com.yzm.repository;
+
+import io.r2dbc.spi.Statement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import pe.com.yzm.expose.response.ProjectCompanyResponse;
+import pe.com.yzm.mapper.ProjectCompanyRowMapper;
+import pe.com.yzm.model.Project;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * <b>Class</b>: ProjectCustomRepositoryImpl <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@RequiredArgsConstructor
+public class ProjectCustomRepositoryImpl implements ProjectCustomRepository {
+
+    private static final String FIND_ALL_WITH_COMPANY_BY_USER_ID = """
+            SELECT p.id, p.nombre, p.empresa_id, e.nombre AS empresa_nombre
+            FROM proyectos p
+            JOIN empresas e ON e.id = p.empresa_id
+            WHERE e.usuario_id = :userId
+            ORDER BY p.empresa_id, p.id""";
+
+    private static final String INSERT_PROJECT = "INSERT INTO proyectos (nombre, empresa_id) VALUES ($1, $2)";
+
+    private final DatabaseClient databaseClient;
+    private final ProjectCompanyRowMapper projectCompanyRowMapper;
+
+    @Override
+    public Flux<ProjectCompanyResponse> findAllWithCompanyByUserId(Long userId) {
+        return databaseClient.sql(FIND_ALL_WITH_COMPANY_BY_USER_ID)
+                .bind("userId", userId)
+                .map(projectCompanyRowMapper)
+                .all();
+    }
+
+    /**
+     * Binds every project to the same prepared statement using {@link Statement#add()}, so the chunk is sent
+     * as one batch. Both columns are nullable, as the create request does not require them.
+     */
+    @Override
+    public Flux<Long> insertAll(List<Project> projects) {
+        return databaseClient.inConnectionMany(connection -> {
+            Statement statement = connection.createStatement(INSERT_PROJECT).returnGeneratedValues("id");
+            for (int i = 0; i < projects.size(); i++) {
+                if (i > 0) {
+                    statement.add();
+                }
+                Project project = projects.get(i);
+                bindNullable(statement, 0, project.getName(), String.class);
+                bindNullable(statement, 1, project.getCompanyId(), Long.class);
+            }
+            return Flux.from(statement.execute())
+                    .concatMap(result -> result.map((row, metadata) -> row.get("id", Long.class)));
+        });
+    }
+
+    private static void bindNullable(Statement statement, int index, Object value, Class<?> type) {
+        if (value == null) {
+            statement.bindNull(index, type);
+        } else {
+            statement.bind(index, value);
+        }
+    }
+}
@@ -1,8 +1,14 @@
 package pe.com.yzm.repository;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import pe.com.yzm.model.Project;
+import pe.com.yzm.util.CacheNames;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * <b>Class</b>: ProjectRpository <br/>
@@ -17,6 +23,27 @@ import reactor.core.publisher.Flux;
  *   </li>
  * </ul>
  */
-public interface ProjectRepository extends ReactiveCrudRepository<Project, Long> {
+public interface ProjectRepository extends ReactiveCrudRepository<Project, Long>, ProjectCustomRepository {
     Flux<Project> findAllByCompanyId(Long companyId);
+
+    @Query("SELECT * FROM proyectos WHERE id = ANY(:ids)")
+    Flux<Project> findByIds(Long[] ids);
+
+    // A miss is not cached, so an id that does not exist yet is read again on every lookup
+    @Override
+    @Cacheable(cacheNames = CacheNames.PROJECTS, key = "#id", unless = "#result == null")
+    Mono<Project> findById(Long id);
+
+    // Same read as findById, for the routed reads that must not fill the cache
+    @Query("SELECT * FROM proyectos WHERE id = :id")
+    Mono<Project> findUncachedById(Long id);
+
+    @CacheEvict(cacheNames = CacheNames.PROJECTS, key = "#id")
+    @Query("UPDATE proyectos SET nombre = :name, empresa_id = :companyId WHERE id = :id RETURNING *")
+    Mono<Project> updateById(Long id, String name, Long companyId);
+
+    @CacheEvict(cacheNames = CacheNames.PROJECTS, key = "#id")
+    @Modifying
+    @Query("DELETE FROM proyectos WHERE id = :id")
+    Mono<Integer> removeById(Long id);
 }
@@ -1,7 +1,9 @@
 package pe.com.yzm.repository;
 
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import pe.com.yzm.model.Role;
+import reactor.core.publisher.Flux;
 
 
 /**
@@ -18,4 +20,7 @@ import pe.com.yzm.model.Role;
  * </ul>
  */
 public interface RoleRepository extends ReactiveCrudRepository<Role, Long> {
+
+  @Query("SELECT * FROM roles WHERE id = ANY(:ids)")
+  Flux<Role> findByIds(Long[] ids);
 }
@@ -1,7 +1,11 @@
 package pe.com.yzm.repository;
 
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import pe.com.yzm.model.UserActivity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * <b>Class</b>: UserActivityRepository <br/>
@@ -17,4 +21,17 @@ import pe.com.yzm.model.UserActivity;
  * </ul>
  */
 public interface UserActivityRepository extends ReactiveCrudRepository<UserActivity, Long> {
-}
\ No newline at end of file
+
+    @Query("SELECT * FROM usuarios_actividades WHERE id > :after ORDER BY id LIMIT :limit")
+    Flux<UserActivity> findPage(Long after, Integer limit);
+
+    @Query("SELECT * FROM usuarios_actividades WHERE id = ANY(:ids)")
+    Flux<UserActivity> findByIds(Long[] ids);
+
+    @Query("UPDATE usuarios_actividades SET nombre = :name, usuario_id = :userId WHERE id = :id RETURNING *")
+    Mono<UserActivity> updateById(Long id, String name, Long userId);
+
+    @Modifying
+    @Query("DELETE FROM usuarios_actividades WHERE id = :id")
+    Mono<Integer> removeById(Long id);
+}
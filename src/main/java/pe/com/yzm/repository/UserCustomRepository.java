@@ -0,0 +1,33 @@
+package pe.com.yzm.repository;
+
+import pe.com.yzm.model.User;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * <b>Class</b>: UserCustomRepository <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+public interface UserCustomRepository {
+
+  /**
+   * Finds a page of users ordered by ID, reading only the given columns. Properties without a selected column
+   * are left null.
+   *
+   * @param after   The ID to seek after.
+   * @param limit   The maximum number of users to return.
+   * @param columns The columns of the SELECT list.
+   * @return A Flux emitting the partially read users.
+   */
+  Flux<User> findPage(Long after, Integer limit, List<String> columns);
+}
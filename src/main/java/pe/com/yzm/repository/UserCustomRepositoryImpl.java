@@ -0,0 +1,40 @@
+package pe.com.yzm.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import pe.com.yzm.model.User;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * <b>Class</b>: UserCustomRepositoryImpl <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@RequiredArgsConstructor
+public class UserCustomRepositoryImpl implements UserCustomRepository {
+
+  private final R2dbcEntityTemplate entityTemplate;
+
+  @Override
+  public Flux<User> findPage(Long after, Integer limit, List<String> columns) {
+    return entityTemplate.select(User.class)
+        .matching(Query.query(Criteria.where("id").greaterThan(after))
+            .columns(columns)
+            .sort(Sort.by("id"))
+            .limit(limit))
+        .all();
+  }
+}
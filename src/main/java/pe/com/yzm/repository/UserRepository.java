@@ -1,7 +1,10 @@
 package pe.com.yzm.repository;
 
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import pe.com.yzm.model.User;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -17,8 +20,21 @@ import reactor.core.publisher.Mono;
  *   </li>
  * </ul>
  */
-public interface UserRepository extends ReactiveCrudRepository<User, Long> {
+public interface UserRepository extends ReactiveCrudRepository<User, Long>, UserCustomRepository {
 
   Mono<Boolean> existsByEmail(String email);
   Mono<User> findByEmail(String email);
+
+  @Query("SELECT * FROM usuarios WHERE id > :after ORDER BY id LIMIT :limit")
+  Flux<User> findPage(Long after, Integer limit);
+
+  @Query("SELECT * FROM usuarios WHERE id = ANY(:ids)")
+  Flux<User> findByIds(Long[] ids);
+
+  @Query("UPDATE usuarios SET nombre = :name, rol_id = :roleId, usuario_id = :userId WHERE id = :id RETURNING *")
+  Mono<User> updateById(Long id, String name, Long roleId, Long userId);
+
+  @Modifying
+  @Query("DELETE FROM usuarios WHERE id = :id")
+  Mono<Integer> removeById(Long id);
 }
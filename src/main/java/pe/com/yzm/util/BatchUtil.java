@@ -0,0 +1,67 @@
+package pe.com.yzm.util;
+
+import lombok.experimental.UtilityClass;
+import pe.com.yzm.expose.response.BatchResponse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * <b>Class</b>: BatchUtil <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@UtilityClass
+public class BatchUtil {
+
+    public static final int MAX_IDS = 500;
+
+    /**
+     * Converts the requested ids into the single array parameter of an {@code id = ANY(:ids)} query. An array is
+     * bound as one parameter, so the statement text is the same whatever the number of ids.
+     *
+     * @param ids The requested ids, possibly repeated.
+     * @return The distinct ids.
+     */
+    public Long[] toArray(List<Long> ids) {
+        return ids.stream().distinct().toArray(Long[]::new);
+    }
+
+    /**
+     * Orders the found elements as requested and lists the ids that were not found. A repeated id is returned once.
+     *
+     * @param ids        The requested ids.
+     * @param found      The elements returned by the query, in any order.
+     * @param idSupplier Function extracting the id of an element.
+     * @return The elements in request order and the missing ids.
+     */
+    public <T> BatchResponse<T> inRequestOrder(List<Long> ids, List<T> found, Function<T, Long> idSupplier) {
+        Map<Long, T> byId = new HashMap<>();
+        found.forEach(element -> byId.put(idSupplier.apply(element), element));
+        List<T> items = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        ids.stream().distinct().forEach(id -> {
+            T element = byId.get(id);
+            if (element != null) {
+                items.add(element);
+            } else {
+                missingIds.add(id);
+            }
+        });
+        return BatchResponse.<T>builder()
+                .items(items)
+                .missingIds(missingIds)
+                .build();
+    }
+}
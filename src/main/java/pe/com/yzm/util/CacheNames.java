@@ -0,0 +1,23 @@
+package pe.com.yzm.util;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * <b>Class</b>: CacheNames <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@UtilityClass
+public class CacheNames {
+    public final String COMPANIES = "companies";
+    public final String COMPANIES_BY_USER = "companiesByUser";
+    public final String PROJECTS = "projects";
+}
@@ -0,0 +1,90 @@
+package pe.com.yzm.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * <b>Class</b>: CallerRateLimiter <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+public class CallerRateLimiter {
+
+    private final int maxConcurrent;
+    private final int permitsPerPeriod;
+    private final long periodNanos;
+    private final Cache<String, CallerState> callers;
+
+    public CallerRateLimiter(int maxConcurrent, int permitsPerPeriod, Duration period) {
+        this.maxConcurrent = maxConcurrent;
+        this.permitsPerPeriod = permitsPerPeriod;
+        this.periodNanos = period.toNanos();
+        // A caller idle for a whole period has no state worth keeping
+        this.callers = Caffeine.newBuilder()
+                .expireAfterAccess(period)
+                .build();
+    }
+
+    /**
+     * Takes a permit for the caller if it has neither reached the number of concurrent operations nor used all the
+     * permits of the current period.
+     *
+     * @param caller The key identifying the caller.
+     * @return The permit, to be released when the operation ends, or empty if the caller is over its limits.
+     */
+    public Optional<Permit> tryAcquire(String caller) {
+        CallerState state = callers.get(caller, key -> new CallerState());
+        long now = System.nanoTime();
+        synchronized (state) {
+            if (now - state.periodStart >= periodNanos) {
+                state.periodStart = now;
+                state.started = 0;
+            }
+            if (state.running >= maxConcurrent || state.started >= permitsPerPeriod) {
+                return Optional.empty();
+            }
+            state.started++;
+            state.running++;
+        }
+        return Optional.of(new Permit(state));
+    }
+
+    public static final class Permit {
+
+        private final CallerState state;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(CallerState state) {
+            this.state = state;
+        }
+
+        /**
+         * Ends the operation of the caller. Calling it more than once has no effect.
+         */
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                synchronized (state) {
+                    state.running--;
+                }
+            }
+        }
+    }
+
+    private static final class CallerState {
+        private long periodStart = System.nanoTime();
+        private int started;
+        private int running;
+    }
+}
@@ -29,6 +29,8 @@ public class ConstantMessage {
     public final String HOUR_BAG_GET_ERROR = "Error al obtener la Bolsa de hora";
     public final String HOUR_BAG_UPDATE_ERROR = "Error al actualizar la Bolsa de hora";
     public final String HOUR_BAG_DELETE_ERROR = "Error al eliminar la Bolsa de hora";
+    public final String HOUR_BAG_CONSUME_ERROR = "Error al consumir las horas de la Bolsa de hora";
+    public final String HOUR_BAG_INSUFFICIENT_HOURS = "La Bolsa de hora no existe o no tiene horas disponibles suficientes";
     public final String HOUR_BAG_CONSUMED_HOUR_ERROR = "Las horas consumidas no pueden ser mayores a las horas registradas";
     public final String USER_ACTIVITY_NOT_FOUND = "Usuario no encontrado";
     public final String USER_ACTIVITY_GET_ERROR = "Error al obtener el usuario";
@@ -46,5 +48,15 @@ public class ConstantMessage {
     public final String ERROR_UPDATE_USER = "Error al actualizar el usuario";
     public final String ERROR_DELETE_USER = "Error al eliminar el usuario";
     public final String USER_EXIST = "Usuario %s ya existe";
+    public final String PAGE_CURSOR_ERROR = "Error al paginar los resultados";
+    public final String PAGE_CURSOR_INVALID = "El cursor de paginación no es válido";
+    public final String PASSWORD_HASH_ERROR = "Error al procesar la contraseña";
+    public final String PASSWORD_HASH_BUSY = "El servicio está ocupado, intente nuevamente en unos segundos";
+    public final String FIELDS_ERROR = "Error al seleccionar los campos";
+    public final String FIELDS_INVALID = "Campos no reconocidos: %s";
+    public final String ACTIVITY_EXPORT_ERROR = "Error al exportar las actividades";
+    public final String ACTIVITY_EXPORT_RATE_LIMITED = "Se alcanzó el límite de exportaciones, intente nuevamente más tarde";
+    public final String IMPORT_CHUNK_REJECTED = "El lote de la fila no se pudo guardar: %s";
+    public final String IMPORT_BODY_UNREADABLE = "El contenido no se pudo leer desde esta fila, las filas siguientes no se procesaron: %s";
 
 }
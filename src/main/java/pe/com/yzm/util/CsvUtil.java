@@ -0,0 +1,64 @@
+package pe.com.yzm.util;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.core.io.buffer.DataBuffer;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <b>Class</b>: CsvUtil <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@UtilityClass
+public class CsvUtil {
+
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    /**
+     * Appends one RFC 4180 line to a buffer. Values containing a separator, a quote or a line break are quoted, and
+     * text starting like a spreadsheet formula is prefixed with a quote so it is not evaluated when opened.
+     *
+     * @param buffer The buffer to write to; it grows as needed.
+     * @param values The values of the line, null values are written as empty fields.
+     * @return The same buffer.
+     */
+    public DataBuffer writeLine(DataBuffer buffer, Object... values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                buffer.write(",", StandardCharsets.UTF_8);
+            }
+            Object value = values[i];
+            if (value != null) {
+                buffer.write(format(value), StandardCharsets.UTF_8);
+            }
+        }
+        return buffer.write(LINE_SEPARATOR, StandardCharsets.UTF_8);
+    }
+
+    private String format(Object value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        if (!(value instanceof CharSequence)) {
+            return value.toString();
+        }
+        String text = value.toString();
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
@@ -0,0 +1,51 @@
+package pe.com.yzm.util;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.http.HttpStatus;
+import pe.com.yzm.core.exception.BusinessException;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * <b>Class</b>: ErrorUtil <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@UtilityClass
+public class ErrorUtil {
+
+    /**
+     * Creates a Mono that fails with a BusinessException built only when the Mono is subscribed.
+     * The returned Mono holds no state, so it can be kept in a constant and reused by every call:
+     * the success path of {@code switchIfEmpty} allocates nothing, and the exception, its stack trace
+     * and its error list are only created when the error is actually signalled.
+     *
+     * @param message The message of the BusinessException.
+     * @param error   The detail added to the error list of the BusinessException.
+     * @param status  The HTTP status of the BusinessException.
+     * @return A reusable Mono that fails with a new BusinessException on each subscription.
+     */
+    public <T> Mono<T> lazyError(String message, String error, HttpStatus status) {
+        return Mono.error(() -> BusinessException.createException(message, List.of(error), status));
+    }
+
+    /**
+     * Creates a reusable Mono that fails with a NOT_FOUND BusinessException when subscribed.
+     *
+     * @param message The message of the BusinessException.
+     * @param error   The detail added to the error list of the BusinessException.
+     * @return A reusable Mono that fails with a new BusinessException on each subscription.
+     */
+    public <T> Mono<T> notFound(String message, String error) {
+        return lazyError(message, error, HttpStatus.NOT_FOUND);
+    }
+}
@@ -0,0 +1,137 @@
+package pe.com.yzm.util;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.experimental.UtilityClass;
+import org.springframework.core.NestedExceptionUtils;
+import pe.com.yzm.expose.response.ImportResponse;
+import pe.com.yzm.expose.response.ImportRowError;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * <b>Class</b>: ImportUtil <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@UtilityClass
+public class ImportUtil {
+
+    /**
+     * Validates the rows of an upload as they are decoded and writes the valid ones in chunks. Only one chunk is
+     * requested ahead of the one being written, so a slow database slows down the reading of the body instead of
+     * buffering it. A chunk that fails is rolled back by the writer and every row in it is reported, while the
+     * following chunks are still written. If the body cannot be read any further, for instance because of a
+     * malformed row, the rows decoded before it are still written and the report gets an error at the position
+     * where reading stopped; the rows after it are not processed.
+     *
+     * @param rows              The decoded rows, in upload order.
+     * @param validator         The validator of the row constraints.
+     * @param chunkSize         The number of valid rows written at a time.
+     * @param maxReportedErrors The number of rejected rows detailed in the report.
+     * @param writer            Function writing a chunk in its own transaction and emitting the rows written.
+     * @return A Mono emitting the import report once the upload has been read.
+     */
+    public <T> Mono<ImportResponse> importRows(Flux<T> rows, Validator validator, int chunkSize, int maxReportedErrors,
+                                               Function<List<T>, Mono<Long>> writer) {
+        return Mono.defer(() -> {
+            Report report = new Report(maxReportedErrors);
+            return rows.index((index, row) -> new IndexedRow<>(index + 1, row))
+                    .onErrorResume(error -> {
+                        report.unreadable(error);
+                        return Flux.empty();
+                    })
+                    .filter(row -> report.accept(row.position(), validator.validate(row.value())))
+                    .buffer(chunkSize)
+                    .concatMap(chunk -> writer.apply(chunk.stream().map(IndexedRow::value).toList())
+                            .doOnNext(report::imported)
+                            .onErrorResume(error -> {
+                                report.reject(chunk, error);
+                                return Mono.empty();
+                            }), 1)
+                    .then(Mono.fromSupplier(report::toResponse));
+        });
+    }
+
+    private record IndexedRow<T>(long position, T value) {
+    }
+
+    // Rows are validated on the thread decoding the body while chunks complete on the database threads
+    private static final class Report {
+
+        private final int maxReportedErrors;
+        private final List<ImportRowError> errors = new ArrayList<>();
+        private long received;
+        private long imported;
+        private long rejected;
+
+        private Report(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        private synchronized <T> boolean accept(long position, Set<ConstraintViolation<T>> violations) {
+            received++;
+            if (violations.isEmpty()) {
+                return true;
+            }
+            addError(position, violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .toList());
+            return false;
+        }
+
+        private synchronized void imported(long count) {
+            imported += count;
+        }
+
+        private synchronized <T> void reject(List<IndexedRow<T>> chunk, Throwable error) {
+            List<String> messages = List.of(String.format(ConstantMessage.IMPORT_CHUNK_REJECTED,
+                    Objects.toString(error.getMessage(), error.getClass().getSimpleName())));
+            chunk.forEach(row -> addError(row.position(), messages));
+        }
+
+        // Always detailed, since it tells the client where to resume
+        private synchronized void unreadable(Throwable error) {
+            Throwable cause = NestedExceptionUtils.getMostSpecificCause(error);
+            errors.add(ImportRowError.builder()
+                    .row(received + 1)
+                    .messages(List.of(String.format(ConstantMessage.IMPORT_BODY_UNREADABLE,
+                            Objects.toString(cause.getMessage(), cause.getClass().getSimpleName()))))
+                    .build());
+        }
+
+        private synchronized void addError(long position, List<String> messages) {
+            rejected++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(ImportRowError.builder()
+                        .row(position)
+                        .messages(messages)
+                        .build());
+            }
+        }
+
+        private synchronized ImportResponse toResponse() {
+            return ImportResponse.builder()
+                    .received(received)
+                    .imported(imported)
+                    .rejected(rejected)
+                    .errors(errors)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package pe.com.yzm.util;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.http.HttpStatus;
+import pe.com.yzm.core.exception.BusinessException;
+import pe.com.yzm.expose.response.PageResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * <b>Class</b>: PageUtil <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+@UtilityClass
+public class PageUtil {
+
+    public static final String DEFAULT_LIMIT = "50";
+    public static final int MAX_LIMIT = 500;
+
+    /**
+     * Decodes an opaque cursor into the last id already returned to the client.
+     *
+     * @param cursor The cursor sent by the client, or null to start from the first page.
+     * @return A Mono emitting the id to seek after, or a BusinessException if the cursor is malformed.
+     */
+    public Mono<Long> decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Mono.just(0L);
+        }
+        try {
+            return Mono.just(Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)));
+        } catch (IllegalArgumentException e) {
+            return Mono.error(BusinessException.createException(ConstantMessage.PAGE_CURSOR_ERROR,
+                    List.of(ConstantMessage.PAGE_CURSOR_INVALID), HttpStatus.BAD_REQUEST));
+        }
+    }
+
+    /**
+     * Encodes the last id of a page into an opaque cursor.
+     *
+     * @param id The id of the last element of the page.
+     * @return The cursor to be sent back by the client to fetch the next page.
+     */
+    public String encodeCursor(Long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Builds a page from rows fetched with {@code limit + 1}; the extra row only signals that a next page exists.
+     *
+     * @param rows       The rows read from the repository, ordered by id.
+     * @param limit      The page size requested by the client.
+     * @param idSupplier Function extracting the id used as keyset.
+     * @return The page with its next cursor, or a null cursor when it is the last page.
+     */
+    public <T> PageResponse<T> toPage(List<T> rows, int limit, Function<T, Long> idSupplier) {
+        if (rows.size() <= limit) {
+            return PageResponse.<T>builder()
+                    .items(rows)
+                    .build();
+        }
+        List<T> items = rows.subList(0, limit);
+        return PageResponse.<T>builder()
+                .items(items)
+                .nextCursor(encodeCursor(idSupplier.apply(items.get(limit - 1))))
+                .build();
+    }
+
+    /**
+     * Streams a whole table as consecutive keyset pages. The next page is read at most one page ahead of what the
+     * client has requested, so the demand of the client paces the reads and memory stays bounded by two pages.
+     *
+     * @param pageFetcher Function reading the rows after an id, limited to a number of rows.
+     * @param idSupplier  Function extracting the id used as keyset.
+     * @param batchSize   The number of rows read by each query.
+     * @return A Flux emitting every row ordered by id.
+     */
+    public <T> Flux<T> streamAll(BiFunction<Long, Integer, Flux<T>> pageFetcher, Function<T, Long> idSupplier,
+                                 int batchSize) {
+        return pageFetcher.apply(0L, batchSize)
+                .collectList()
+                .expand(batch -> batch.size() < batchSize ? Mono.empty()
+                        : pageFetcher.apply(idSupplier.apply(batch.get(batch.size() - 1)), batchSize).collectList())
+                .concatMapIterable(Function.identity(), 1);
+    }
+}
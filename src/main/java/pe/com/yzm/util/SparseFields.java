@@ -0,0 +1,134 @@
+package pe.com.yzm.util;
+
+import org.springframework.http.HttpStatus;
+import pe.com.yzm.core.exception.BusinessException;
+import pe.com.yzm.expose.response.PageResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * <b>Class</b>: SparseFields <br/>
+ * <b>Copyright</b>: 2026 Yovanny Zeballos Medina<br/>.
+ *
+ * @author 2026  Yovanny Zeballos Medina <br/>
+ * <u>Developed by</u>: Yovanny Zeballos <br/>
+ * <u>Changes:</u><br/>
+ * <ul>
+ *   <li>
+ *     octubre 17, 2026 Creación de Clase.
+ *   </li>
+ * </ul>
+ */
+public final class SparseFields<T> {
+
+    private final String idColumn;
+    private final Map<String, Field<T>> fields;
+
+    private SparseFields(String idColumn, Map<String, Field<T>> fields) {
+        this.idColumn = idColumn;
+        this.fields = fields;
+    }
+
+    public static <T> Builder<T> builder(String idColumn) {
+        return new Builder<>(idColumn);
+    }
+
+    /**
+     * Parses the {@code fields} query parameter against the fields a response exposes.
+     *
+     * @param requested The comma separated names of the response fields, e.g. {@code id,name}.
+     * @return A Mono emitting the selection, or a BAD_REQUEST BusinessException naming the unknown fields.
+     */
+    public Mono<Selection<T>> select(String requested) {
+        Set<String> names = new LinkedHashSet<>();
+        Arrays.stream(requested.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .forEach(names::add);
+        List<String> unknown = names.stream().filter(name -> !fields.containsKey(name)).toList();
+        if (names.isEmpty() || !unknown.isEmpty()) {
+            return Mono.error(BusinessException.createException(ConstantMessage.FIELDS_ERROR,
+                    List.of(String.format(ConstantMessage.FIELDS_INVALID, String.join(", ", unknown))),
+                    HttpStatus.BAD_REQUEST));
+        }
+        Set<String> columns = new LinkedHashSet<>();
+        // The id is always read because keyset pagination needs it, even when the client did not ask for it
+        columns.add(idColumn);
+        names.forEach(name -> columns.add(fields.get(name).column()));
+        return Mono.just(new Selection<>(List.copyOf(names), List.copyOf(columns), fields));
+    }
+
+    public static final class Selection<T> {
+
+        private final List<String> names;
+        private final List<String> columns;
+        private final Map<String, Field<T>> fields;
+
+        private Selection(List<String> names, List<String> columns, Map<String, Field<T>> fields) {
+            this.names = names;
+            this.columns = columns;
+            this.fields = fields;
+        }
+
+        /**
+         * @return The columns to put in the SELECT list, the id column first.
+         */
+        public List<String> columns() {
+            return columns;
+        }
+
+        /**
+         * Reads only the requested fields of a row, in the order the client asked for them.
+         *
+         * @param row The partially read entity.
+         * @return The requested fields by name.
+         */
+        public Map<String, Object> project(T row) {
+            Map<String, Object> projected = new LinkedHashMap<>();
+            names.forEach(name -> projected.put(name, fields.get(name).getter().apply(row)));
+            return projected;
+        }
+
+        /**
+         * Projects every item of a page, keeping its cursor.
+         *
+         * @param page The page of partially read entities.
+         * @return The page of projected responses.
+         */
+        public PageResponse<Map<String, Object>> projectPage(PageResponse<T> page) {
+            return PageResponse.<Map<String, Object>>builder()
+                    .items(page.getItems().stream().map(this::project).toList())
+                    .nextCursor(page.getNextCursor())
+                    .build();
+        }
+    }
+
+    public static final class Builder<T> {
+
+        private final String idColumn;
+        private final Map<String, Field<T>> fields = new LinkedHashMap<>();
+
+        private Builder(String idColumn) {
+            this.idColumn = idColumn;
+        }
+
+        public Builder<T> field(String name, String column, Function<T, Object> getter) {
+            fields.put(name, new Field<>(column, getter));
+            return this;
+        }
+
+        public SparseFields<T> build() {
+            return new SparseFields<>(idColumn, Map.copyOf(fields));
+        }
+    }
+
+    private record Field<T>(String column, Function<T, Object> getter) {
+    }
+}
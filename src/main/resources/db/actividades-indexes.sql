@@ -0,0 +1,12 @@
+-- Composite indexes behind the filtered activity search (/actividad/buscar).
+-- Each filter column is followed by the id, so "filter = ? AND id > ? ORDER BY id LIMIT ?" is a single index
+-- range scan whatever the offset of the page. CONCURRENTLY keeps the table writable while they are built;
+-- run this script outside a transaction block.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS actividades_proyecto_id_id_idx
+    ON actividades (proyecto_id, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS actividades_bolsa_hora_id_id_idx
+    ON actividades (bolsa_hora_id, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS actividades_usuario_actividad_id_id_idx
+    ON actividades (usuario_actividad_id, id);
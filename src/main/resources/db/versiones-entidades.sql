@@ -0,0 +1,11 @@
+-- Version of each cached entity type, shared by every instance. The writes of companies, projects, hour bags and
+-- activities bump it in their own transaction, and EntityVersions builds the ETags of the polled endpoints from it.
+-- The application does not create it: run this script before deploying, otherwise those writes fail.
+CREATE TABLE IF NOT EXISTS versiones_entidades (
+    entidad VARCHAR(30) PRIMARY KEY,
+    version BIGINT      NOT NULL DEFAULT 0
+);
+
+INSERT INTO versiones_entidades (entidad)
+VALUES ('ACTIVITY'), ('COMPANY'), ('HOUR_BAG'), ('PROJECT'), ('USER'), ('USER_ACTIVITY')
+ON CONFLICT (entidad) DO NOTHING;
@@ -0,0 +1,34 @@
+package pe.com.yzm;
+
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Base of the benchmarks that run the whole application against Postgres. Every subclass shares one container and,
+ * as their configuration is the same, one application context. Only run by the benchmarkTest task.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+public abstract class PostgresBenchmarkSupport {
+
+	// Started once for every subclass, since the cached context outlives each class; Testcontainers removes it
+	// when the JVM exits
+	@ServiceConnection
+	static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	static {
+		POSTGRES.start();
+	}
+
+	// Seeding and the fan-out comparisons run far more statements than the per-request query budget
+	@DynamicPropertySource
+	static void queryBudget(DynamicPropertyRegistry registry) {
+		registry.add("app.query-stats.query-budget", () -> "0");
+	}
+}
@@ -0,0 +1,77 @@
+package pe.com.yzm.business.impl;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import pe.com.yzm.business.ActivityService;
+import pe.com.yzm.core.exception.BusinessException;
+import pe.com.yzm.expose.request.ActivityCreateRequest;
+import pe.com.yzm.model.HourBag;
+import pe.com.yzm.repository.ActivityRepository;
+import pe.com.yzm.repository.HourBagRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers
+class ActivityServiceConcurrencyTests {
+
+	private static final int BAG_HOURS = 100;
+	private static final int PARALLEL_CREATES = 300;
+
+	@Container
+	@ServiceConnection
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@Autowired
+	private ActivityService activityService;
+
+	@Autowired
+	private HourBagRepository hourBagRepository;
+
+	@Autowired
+	private ActivityRepository activityRepository;
+
+	@Test
+	void parallelCreatesNeverOverConsumeTheHourBag() {
+		HourBag hourBag = hourBagRepository.save(HourBag.builder()
+						.companyId(1L)
+						.hours(BAG_HOURS)
+						.consumedHours(0)
+						.hourCost(BigDecimal.TEN)
+						.registrationDate(LocalDateTime.now())
+						.status(Boolean.TRUE)
+						.build())
+				.block();
+
+		Long created = Flux.range(0, PARALLEL_CREATES)
+				.flatMap(index -> activityService.create(ActivityCreateRequest.builder()
+										.code("ACT-" + index)
+										.description("Concurrent activity " + index)
+										.projectId(1L)
+										.effortHours(1)
+										.hourBagId(hourBag.getId())
+										.userActivityId(1L)
+										.build())
+								.map(response -> 1L)
+								.onErrorResume(BusinessException.class, error -> Mono.just(0L)),
+						PARALLEL_CREATES)
+				.reduce(0L, Long::sum)
+				.block();
+
+		assertEquals(BAG_HOURS, created);
+		assertEquals(BAG_HOURS, hourBagRepository.findById(hourBag.getId()).block().getConsumedHours());
+		assertEquals(BAG_HOURS, activityRepository.count().block());
+	}
+}
@@ -0,0 +1,63 @@
+package pe.com.yzm.business.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import pe.com.yzm.metrics.ServiceMetricsAspect;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ServiceMetricsAspectTests {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final StubServiceImpl service = proxy();
+
+	@Test
+	void fluxOperationsAreTimedAndTheirElementsCounted() {
+		service.findAll(3).blockLast();
+		service.findAll(5).blockLast();
+
+		assertEquals(2, meterRegistry.get(ServiceMetricsAspect.METRIC_NAME + ".flow.duration")
+				.tag("service", "StubServiceImpl")
+				.tag("operation", "findAll")
+				.tag("status", "completed")
+				.timer()
+				.count());
+		assertEquals(8, meterRegistry.get(ServiceMetricsAspect.METRIC_NAME + ".elements")
+				.tag("operation", "findAll")
+				.summary()
+				.totalAmount());
+	}
+
+	@Test
+	void failuresAreTaggedWithTheirErrorType() {
+		assertThrows(IllegalStateException.class, () -> service.update().block());
+
+		assertEquals(1, meterRegistry.get(ServiceMetricsAspect.METRIC_NAME + ".flow.duration")
+				.tag("operation", "update")
+				.tag("status", "error")
+				.tag("exception", IllegalStateException.class.getName())
+				.timer()
+				.count());
+	}
+
+	private StubServiceImpl proxy() {
+		AspectJProxyFactory factory = new AspectJProxyFactory(new StubServiceImpl());
+		factory.addAspect(new ServiceMetricsAspect(meterRegistry));
+		return factory.getProxy();
+	}
+}
+
+class StubServiceImpl {
+
+	public Flux<Integer> findAll(int count) {
+		return Flux.range(1, count);
+	}
+
+	public Mono<Void> update() {
+		return Mono.error(new IllegalStateException("conflicto"));
+	}
+}
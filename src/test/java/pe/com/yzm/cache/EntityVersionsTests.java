@@ -0,0 +1,76 @@
+package pe.com.yzm.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import pe.com.yzm.business.CompanyService;
+import pe.com.yzm.expose.request.CompanyCreateRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers
+class EntityVersionsTests {
+
+	@Container
+	@ServiceConnection
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@Autowired
+	private EntityVersions entityVersions;
+
+	@Autowired
+	private CacheInvalidationBus cacheInvalidationBus;
+
+	@Autowired
+	private CompanyService companyService;
+
+	@Autowired
+	private DatabaseClient databaseClient;
+
+	@Test
+	void everyInstanceIssuesTheSameTagUntilTheEntityTypeChanges() {
+		// A second instance only shares the database with the first one
+		EntityVersions otherInstance = new EntityVersions(databaseClient);
+		String before = entityVersions.etag(CacheEntity.PROJECT, CacheEntity.COMPANY).block();
+
+		assertEquals(before, otherInstance.etag(CacheEntity.PROJECT, CacheEntity.COMPANY).block());
+
+		entityVersions.bump(CacheEntity.HOUR_BAG).block();
+		cacheInvalidationBus.publish(CacheEntity.COMPANY, 1L).block();
+		assertEquals(before, otherInstance.etag(CacheEntity.PROJECT, CacheEntity.COMPANY).block());
+
+		companyService.saveCompany(CompanyCreateRequest.builder().name("versionada").userId(1L).build()).block();
+		String after = otherInstance.etag(CacheEntity.PROJECT, CacheEntity.COMPANY).block();
+		assertNotEquals(before, after);
+		assertEquals(after, entityVersions.etag(CacheEntity.PROJECT, CacheEntity.COMPANY).block());
+	}
+
+	@Test
+	void aWriteWhoseVersionCannotBeBumpedIsRolledBack() {
+		databaseClient.sql("DELETE FROM versiones_entidades WHERE entidad = 'COMPANY'").then().block();
+		try {
+			assertThrows(IllegalStateException.class, () -> companyService.saveCompany(CompanyCreateRequest.builder()
+							.name("sin-version")
+							.userId(1L)
+							.build())
+					.block());
+
+			assertEquals(0L, databaseClient.sql("SELECT count(*) AS total FROM empresas WHERE nombre = 'sin-version'")
+					.map(row -> row.get("total", Long.class))
+					.one()
+					.block());
+		} finally {
+			databaseClient.sql("INSERT INTO versiones_entidades (entidad) VALUES ('COMPANY')").then().block();
+		}
+	}
+}
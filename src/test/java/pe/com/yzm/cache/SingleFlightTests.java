@@ -0,0 +1,107 @@
+package pe.com.yzm.cache;
+
+import org.junit.jupiter.api.Test;
+import pe.com.yzm.datasource.DataSourceRoute;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTests {
+
+	private static final int BURST = 100;
+
+	@Test
+	void aBurstOfIdenticalReadsRunsASingleQuery() {
+		SingleFlight<Long, String> singleFlight = new SingleFlight<>(SingleFlight.DEFAULT_MAX_KEYS);
+		AtomicInteger queries = new AtomicInteger();
+
+		List<String> results = Flux.range(0, BURST)
+				.flatMap(index -> singleFlight.execute(1L, () -> query(queries, "company-1")), BURST)
+				.collectList()
+				.block();
+
+		assertEquals(BURST, results.size());
+		assertTrue(results.stream().allMatch("company-1"::equals));
+		assertEquals(1, queries.get());
+	}
+
+	@Test
+	void differentKeysAndLaterCallsAreNotShared() {
+		SingleFlight<Long, String> singleFlight = new SingleFlight<>(SingleFlight.DEFAULT_MAX_KEYS);
+		AtomicInteger queries = new AtomicInteger();
+
+		Flux.range(0, BURST)
+				.flatMap(index -> singleFlight.execute((long) index % 2, () -> query(queries, "value")), BURST)
+				.blockLast();
+		singleFlight.execute(0L, () -> query(queries, "value")).block();
+
+		assertEquals(3, queries.get());
+	}
+
+	@Test
+	void theQueryIsOnlyCancelledWhenEverySubscriberCancels() throws Exception {
+		SingleFlight<Long, String> singleFlight = new SingleFlight<>(SingleFlight.DEFAULT_MAX_KEYS);
+		AtomicInteger queries = new AtomicInteger();
+		AtomicBoolean cancelled = new AtomicBoolean();
+
+		Disposable first = singleFlight.execute(1L, () -> query(queries, "value").doOnCancel(() -> cancelled.set(true)))
+				.subscribe();
+		CompletableFuture<String> second = singleFlight.execute(1L, () -> query(queries, "value")).toFuture();
+		first.dispose();
+
+		assertEquals("value", second.get(5, TimeUnit.SECONDS));
+		assertFalse(cancelled.get());
+		assertEquals(1, queries.get());
+
+		Disposable third = singleFlight.execute(2L, () -> query(queries, "value").doOnCancel(() -> cancelled.set(true)))
+				.subscribe();
+		third.dispose();
+
+		assertTrue(cancelled.get());
+		assertEquals(0, singleFlight.inFlight());
+	}
+
+	@Test
+	void keysAboveTheLimitAreLoadedWithoutCoalescing() {
+		SingleFlight<Long, String> singleFlight = new SingleFlight<>(1);
+		AtomicInteger queries = new AtomicInteger();
+
+		Flux.just(1L, 2L, 2L)
+				.flatMap(key -> singleFlight.execute(key, () -> query(queries, "value")))
+				.blockLast();
+
+		assertEquals(3, queries.get());
+	}
+
+	@Test
+	void readYourWritesReadsAreNotCoalesced() {
+		SingleFlight<Long, String> singleFlight = new SingleFlight<>(SingleFlight.DEFAULT_MAX_KEYS);
+		AtomicInteger queries = new AtomicInteger();
+
+		Flux.merge(singleFlight.execute(1L, () -> query(queries, "before-write"))
+								.contextWrite(DataSourceRoute::read),
+						singleFlight.execute(1L, () -> query(queries, "before-write")),
+						singleFlight.execute(1L, () -> query(queries, "after-write"))
+								.contextWrite(DataSourceRoute::primary))
+				.blockLast();
+
+		assertEquals(3, queries.get());
+	}
+
+	private static Mono<String> query(AtomicInteger queries, String value) {
+		return Mono.fromCallable(queries::incrementAndGet)
+				.then(Mono.delay(Duration.ofMillis(100)))
+				.thenReturn(value);
+	}
+}
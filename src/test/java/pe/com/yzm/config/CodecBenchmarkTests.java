@@ -0,0 +1,120 @@
+package pe.com.yzm.config;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.Encoder;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.EncoderHttpMessageWriter;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import pe.com.yzm.expose.response.ActivityResponse;
+import pe.com.yzm.expose.response.PageResponse;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Rough comparison of the wire size and encode time of an activity page in each negotiated format, using the
+ * encoders the server selects once CodecConfig is applied. Logs one line per format; only the size ordering is
+ * asserted since timings depend on the machine.
+ */
+@Tag("benchmark")
+class CodecBenchmarkTests {
+
+	private static final Logger log = LoggerFactory.getLogger(CodecBenchmarkTests.class);
+
+	private static final int ROWS = 5_000;
+	private static final int ROUNDS = 20;
+	private static final ResolvableType PAGE_TYPE =
+			ResolvableType.forClassWithGenerics(PageResponse.class, ActivityResponse.class);
+
+	@Test
+	void binaryFormatsAreSmallerThanJson() throws IOException {
+		List<ActivityResponse> activities = LongStream.rangeClosed(1, ROWS)
+				.mapToObj(id -> ActivityResponse.builder()
+						.id(id)
+						.code("ACT-" + id)
+						.description("Actividad de desarrollo número " + id)
+						.projectId(id % 50)
+						.effortHours((int) (id % 8) + 1)
+						.hourBagId(id % 20)
+						.userActivityId(id % 100)
+						.build())
+				.toList();
+		PageResponse<ActivityResponse> page = PageResponse.<ActivityResponse>builder().items(activities).build();
+		ServerCodecConfigurer configurer = ServerCodecConfigurer.create();
+		new CodecConfig().binaryJacksonCodecs(Jackson2ObjectMapperBuilder.json()).customize(configurer);
+		Map<String, MediaType> formats = new LinkedHashMap<>();
+		formats.put("json", MediaType.APPLICATION_JSON);
+		formats.put("cbor", MediaType.APPLICATION_CBOR);
+		formats.put("smile", MediaType.parseMediaType("application/x-jackson-smile"));
+
+		Map<String, Integer> sizes = new LinkedHashMap<>();
+		for (Map.Entry<String, MediaType> format : formats.entrySet()) {
+			Encoder<Object> encoder = encoder(configurer, format.getValue());
+			byte[] body = encode(encoder, page, format.getValue());
+			long start = System.nanoTime();
+			for (int round = 0; round < ROUNDS; round++) {
+				encode(encoder, page, format.getValue());
+			}
+			long micros = (System.nanoTime() - start) / ROUNDS / 1_000;
+			sizes.put(format.getKey(), body.length);
+			log.info("{}: {} bytes, {} us, {}", format.getKey(), body.length, micros,
+					encoder.getClass().getSimpleName());
+		}
+		byte[] gzipJson = gzip(encode(encoder(configurer, MediaType.APPLICATION_JSON), page,
+				MediaType.APPLICATION_JSON));
+		log.info("json+gzip: {} bytes", gzipJson.length);
+
+		assertInstanceOf(CodecConfig.AggregatingCborEncoder.class, encoder(configurer, MediaType.APPLICATION_CBOR));
+		assertInstanceOf(CodecConfig.AggregatingSmileEncoder.class, encoder(configurer, formats.get("smile")));
+		assertTrue(sizes.get("cbor") < sizes.get("json"));
+		assertTrue(sizes.get("smile") < sizes.get("json"));
+		assertTrue(gzipJson.length < sizes.get("json"));
+	}
+
+	// The first writer accepting the type, as the server picks it
+	@SuppressWarnings("unchecked")
+	private static Encoder<Object> encoder(ServerCodecConfigurer configurer, MediaType mediaType) {
+		return configurer.getWriters().stream()
+				.filter(writer -> writer.canWrite(PAGE_TYPE, mediaType))
+				.filter(EncoderHttpMessageWriter.class::isInstance)
+				.map(writer -> (Encoder<Object>) ((EncoderHttpMessageWriter<?>) writer).getEncoder())
+				.findFirst()
+				.orElseThrow();
+	}
+
+	private static byte[] encode(Encoder<Object> encoder, Object value, MediaType mediaType) {
+		return DataBufferUtils.join(encoder.encode(Mono.just(value), DefaultDataBufferFactory.sharedInstance,
+						PAGE_TYPE, mediaType, Map.of()))
+				.map(buffer -> {
+					byte[] bytes = new byte[buffer.readableByteCount()];
+					buffer.read(bytes);
+					DataBufferUtils.release(buffer);
+					return bytes;
+				})
+				.block();
+	}
+
+	private static byte[] gzip(byte[] body) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(body);
+		}
+		return out.toByteArray();
+	}
+}
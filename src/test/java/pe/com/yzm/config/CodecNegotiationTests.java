@@ -0,0 +1,87 @@
+package pe.com.yzm.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import pe.com.yzm.business.CompanyService;
+import pe.com.yzm.cache.CacheEntity;
+import pe.com.yzm.cache.EntityVersions;
+import pe.com.yzm.expose.CompanyController;
+import pe.com.yzm.expose.response.CompanyResponse;
+import pe.com.yzm.expose.response.PageResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that the Accept header selects the codecs registered by CodecConfig, for a Mono and for a Flux result.
+ */
+class CodecNegotiationTests {
+
+	private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+	private static final List<CompanyResponse> COMPANIES = List.of(
+			CompanyResponse.builder().id(1L).name("Empresa 1").build(),
+			CompanyResponse.builder().id(2L).name("Empresa 2").build());
+
+	private WebTestClient webTestClient;
+
+	@BeforeEach
+	void setUp() {
+		CompanyService companyService = mock(CompanyService.class);
+		EntityVersions entityVersions = mock(EntityVersions.class);
+		when(companyService.findAllCompany(any(), any()))
+				.thenReturn(Mono.just(PageResponse.<CompanyResponse>builder().items(COMPANIES).build()));
+		when(companyService.findAllCompanyByUser(any())).thenReturn(Flux.fromIterable(COMPANIES));
+		when(entityVersions.etag(CacheEntity.COMPANY)).thenReturn(Mono.just("W/\"1\""));
+		webTestClient = WebTestClient.bindToController(new CompanyController(companyService, entityVersions))
+				.httpMessageCodecs(new CodecConfig().binaryJacksonCodecs(Jackson2ObjectMapperBuilder.json())::customize)
+				.build();
+	}
+
+	@Test
+	void aMonoIsEncodedInTheAcceptedFormat() throws IOException {
+		assertEquals(2, read(MediaType.APPLICATION_JSON, "/empresa/listar").get("items").size());
+		assertEquals(2, read(MediaType.APPLICATION_CBOR, "/empresa/listar").get("items").size());
+		assertEquals(2, read(SMILE, "/empresa/listar").get("items").size());
+	}
+
+	@Test
+	void aFluxIsEncodedAsOneArrayInTheAcceptedFormat() throws IOException {
+		assertEquals(2, read(MediaType.APPLICATION_JSON, "/empresa/listar/usuario/1").size());
+		assertEquals(2, read(MediaType.APPLICATION_CBOR, "/empresa/listar/usuario/1").size());
+		assertEquals(2, read(SMILE, "/empresa/listar/usuario/1").size());
+	}
+
+	private JsonNode read(MediaType mediaType, String uri) throws IOException {
+		byte[] body = webTestClient.get().uri(uri)
+				.accept(mediaType)
+				.exchange()
+				.expectStatus().isOk()
+				.expectHeader().contentTypeCompatibleWith(mediaType)
+				.expectBody(byte[].class)
+				.returnResult()
+				.getResponseBody();
+		return mapper(mediaType).readTree(body);
+	}
+
+	private static ObjectMapper mapper(MediaType mediaType) {
+		if (MediaType.APPLICATION_CBOR.equals(mediaType)) {
+			return Jackson2ObjectMapperBuilder.cbor().build();
+		}
+		if (SMILE.equals(mediaType)) {
+			return Jackson2ObjectMapperBuilder.smile().build();
+		}
+		return Jackson2ObjectMapperBuilder.json().build();
+	}
+}
@@ -0,0 +1,136 @@
+package pe.com.yzm.datasource;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import pe.com.yzm.logging.TransactionLogger;
+import pe.com.yzm.model.Company;
+import pe.com.yzm.repository.CompanyRepository;
+import reactor.core.publisher.Flux;
+import reactor.util.context.Context;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers
+class QueryStatsTests {
+
+	private static final int BUDGET = 3;
+
+	@Container
+	@ServiceConnection
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@DynamicPropertySource
+	static void queryStatsProperties(DynamicPropertyRegistry registry) {
+		registry.add("app.query-stats.query-budget", () -> String.valueOf(BUDGET));
+	}
+
+	@Autowired
+	private CompanyRepository companyRepository;
+
+	@Autowired
+	private QueryStatsRecorder queryStatsRecorder;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void statementsAreCountedPerTransaction() {
+		Long companyId = companyRepository.save(Company.builder().name("stats").userId(1L).build())
+				.map(Company::getId)
+				.contextWrite(transaction("within-budget"))
+				.block();
+
+		companyRepository.findById(companyId)
+				.contextWrite(transaction("within-budget"))
+				.block();
+
+		assertEquals(2, queryStatsRecorder.queries("within-budget"));
+		assertTrue(meterRegistry.get("db.query.rows").tag("command", "SELECT").summary().totalAmount() >= 1);
+		queryStatsRecorder.requestFinished("within-budget");
+		assertEquals(0, queryStatsRecorder.queries("within-budget"));
+	}
+
+	@Test
+	void aTransactionOverItsBudgetFails() {
+		IllegalStateException error = assertThrows(IllegalStateException.class, () -> Flux.range(0, BUDGET + 1)
+				.concatMap(attempt -> companyRepository.findById(-1L))
+				.contextWrite(transaction("over-budget"))
+				.blockLast());
+
+		assertTrue(error.getMessage().contains("over-budget"));
+		queryStatsRecorder.requestFinished("over-budget");
+	}
+
+	@Test
+	void aFoundCompanyIsCachedAndAMissingOneIsNot() {
+		Long companyId = companyRepository.save(Company.builder().name("cached").userId(1L).build())
+				.map(Company::getId)
+				.block();
+
+		Flux.range(0, 2)
+				.concatMap(attempt -> companyRepository.findById(companyId))
+				.contextWrite(transaction("found"))
+				.blockLast();
+		Flux.range(0, 2)
+				.concatMap(attempt -> companyRepository.findById(-1L))
+				.contextWrite(transaction("missing"))
+				.blockLast();
+
+		assertEquals(1, queryStatsRecorder.queries("found"));
+		assertEquals(2, queryStatsRecorder.queries("missing"));
+		queryStatsRecorder.requestFinished("found");
+		queryStatsRecorder.requestFinished("missing");
+	}
+
+	@Test
+	void aBatchedStatementIsRecordedOnce() {
+		List<Company> companies = IntStream.range(0, 50)
+				.mapToObj(index -> Company.builder().name("batch-" + index).userId(1L).build())
+				.toList();
+		long samples = insertSamples();
+		double rows = insertRows();
+
+		List<Long> ids = companyRepository.insertAll(companies)
+				.contextWrite(transaction("batched"))
+				.collectList()
+				.block();
+
+		assertEquals(companies.size(), ids.size());
+		assertEquals(samples + 1, insertSamples());
+		assertEquals(rows + companies.size(), insertRows());
+		assertEquals(1, queryStatsRecorder.queries("batched"));
+		queryStatsRecorder.requestFinished("batched");
+	}
+
+	private long insertSamples() {
+		Timer timer = meterRegistry.find("db.query.duration").tag("command", "INSERT").timer();
+		return timer == null ? 0 : timer.count();
+	}
+
+	private double insertRows() {
+		DistributionSummary summary = meterRegistry.find("db.query.rows").tag("command", "INSERT").summary();
+		return summary == null ? 0 : summary.totalAmount();
+	}
+
+	private static Context transaction(String transactionId) {
+		return Context.of(TransactionLogger.TRANSACTION_ID, transactionId);
+	}
+}
@@ -0,0 +1,155 @@
+package pe.com.yzm.datasource;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactories;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import pe.com.yzm.business.CompanyService;
+import pe.com.yzm.expose.request.CompanyUpdateRequest;
+import pe.com.yzm.logging.TransactionLogger;
+import pe.com.yzm.model.Company;
+import pe.com.yzm.repository.CompanyRepository;
+import pe.com.yzm.util.CacheNames;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers
+class ReadReplicaRoutingTests {
+
+	@Container
+	@ServiceConnection
+	static PostgreSQLContainer<?> primary = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	// Not a real replica: an independent database with the same schema, so the test can tell which one answered
+	@Container
+	static PostgreSQLContainer<?> replica = new PostgreSQLContainer<>("postgres:16-alpine")
+			.withInitScript("schema.sql");
+
+	@DynamicPropertySource
+	static void readReplicaProperties(DynamicPropertyRegistry registry) {
+		registry.add("app.read-replica.enabled", () -> "true");
+		registry.add("app.read-replica.urls[0]", ReadReplicaRoutingTests::replicaUrl);
+		registry.add("app.read-replica.username", replica::getUsername);
+		registry.add("app.read-replica.password", replica::getPassword);
+		registry.add("app.read-replica.health-check-interval", () -> "PT0.2S");
+	}
+
+	@Autowired
+	private CompanyService companyService;
+
+	@Autowired
+	private CompanyRepository companyRepository;
+
+	@Autowired
+	private ReadReplicaPool readReplicaPool;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	private Long companyId;
+
+	@BeforeEach
+	void setUp() throws InterruptedException {
+		companyId = companyRepository.save(Company.builder().name("primary").userId(1L).build())
+				.map(Company::getId)
+				.block();
+		insertIntoReplica(companyId, "replica");
+		for (int attempt = 0; attempt < 50 && readReplicaPool.nextHealthy().isEmpty(); attempt++) {
+			Thread.sleep(100);
+		}
+		assertTrue(readReplicaPool.nextHealthy().isPresent());
+	}
+
+	@Test
+	void readsAreServedByTheReplica() {
+		String name = companyService.findByCompanyId(companyId)
+				.map(response -> response.getName())
+				.contextWrite(transaction("read-only"))
+				.block();
+
+		assertEquals("replica", name);
+	}
+
+	@Test
+	void readsAfterAWriteOfTheSameTransactionAreServedByThePrimary() {
+		companyService.updateCompany(CompanyUpdateRequest.builder()
+						.id(companyId)
+						.name("primary-updated")
+						.userId(1L)
+						.build())
+				.contextWrite(transaction("read-your-writes"))
+				.block();
+
+		assertEquals("primary-updated", companyService.findByCompanyId(companyId)
+				.map(response -> response.getName())
+				.contextWrite(transaction("read-your-writes"))
+				.block());
+		assertEquals("replica", companyService.findByCompanyId(companyId)
+				.map(response -> response.getName())
+				.contextWrite(transaction("other"))
+				.block());
+	}
+
+	@Test
+	void routedReadsDoNotFillTheSharedCaches() {
+		companyService.updateCompany(CompanyUpdateRequest.builder()
+						.id(companyId)
+						.name("primary-updated")
+						.userId(1L)
+						.build())
+				.contextWrite(transaction("writer"))
+				.block();
+
+		assertEquals("primary-updated", companyService.findByCompanyId(companyId)
+				.map(response -> response.getName())
+				.contextWrite(transaction("writer"))
+				.block());
+		assertEquals("replica", companyService.findByCompanyId(companyId)
+				.map(response -> response.getName())
+				.contextWrite(transaction("reader"))
+				.block());
+		assertNull(cacheManager.getCache(CacheNames.COMPANIES).retrieve(companyId));
+	}
+
+	private static Context transaction(String transactionId) {
+		return Context.of(TransactionLogger.TRANSACTION_ID, transactionId);
+	}
+
+	private static String replicaUrl() {
+		return "r2dbc:postgresql://%s:%d/%s".formatted(replica.getHost(),
+				replica.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT), replica.getDatabaseName());
+	}
+
+	private static void insertIntoReplica(Long id, String name) {
+		String url = "r2dbc:postgresql://%s:%s@%s:%d/%s".formatted(replica.getUsername(), replica.getPassword(),
+				replica.getHost(), replica.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT), replica.getDatabaseName());
+		Mono.usingWhen(Mono.from(ConnectionFactories.get(url).create()),
+						connection -> Flux.from(connection.createStatement(
+												"INSERT INTO empresas (id, nombre, usuario_id) VALUES ($1, $2, 1) "
+														+ "ON CONFLICT (id) DO UPDATE SET nombre = EXCLUDED.nombre")
+										.bind("$1", id)
+										.bind("$2", name)
+										.execute())
+								.flatMap(result -> result.getRowsUpdated())
+								.then(),
+						Connection::close)
+				.block();
+	}
+}
@@ -0,0 +1,53 @@
+package pe.com.yzm.expose;
+
+import reactor.blockhound.BlockHound;
+import reactor.blockhound.BlockingOperationError;
+import reactor.blockhound.integration.BlockHoundIntegration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * The only blocking calls tolerated on event loop and parallel threads. Every other one is recorded and fails the
+ * running request, so a new entry here needs the same kind of justification as the ones below.
+ */
+final class BlockHoundAllowList implements BlockHoundIntegration {
+
+	private static final Queue<String> DETECTED = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Installs BlockHound with this allow list besides the Reactor and Netty integrations, which mark their threads
+	 * as non-blocking. Later calls have no effect.
+	 */
+	static void install() {
+		BlockHound.install(new BlockHoundAllowList());
+	}
+
+	/**
+	 * Returns and clears the blocking calls detected since the previous call.
+	 */
+	static List<String> drain() {
+		List<String> detected = new ArrayList<>();
+		for (String call = DETECTED.poll(); call != null; call = DETECTED.poll()) {
+			detected.add(call);
+		}
+		return detected;
+	}
+
+	@Override
+	public void applyTo(BlockHound.Builder builder) {
+		builder
+				// Reads /dev/urandom, which never blocks: transaction ids and the Postgres SCRAM handshake
+				.allowBlockingCallsInside("java.security.SecureRandom", "nextBytes")
+				// Classes first used by a request are read from the jars once
+				.allowBlockingCallsInside("java.lang.ClassLoader", "loadClass")
+				// The test console appender writes synchronously; deployed instances log the same way
+				.allowBlockingCallsInside("ch.qos.logback.core.OutputStreamAppender", "writeBytes")
+				.blockingMethodCallback(method -> {
+					DETECTED.add(method + " on " + Thread.currentThread().getName());
+					throw new BlockingOperationError(method);
+				});
+	}
+}
@@ -0,0 +1,59 @@
+package pe.com.yzm.expose;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import pe.com.yzm.PostgresBenchmarkSupport;
+import pe.com.yzm.expose.response.ImportResponse;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Throughput of /empresa/importar end to end: an NDJSON fixture decoded by the Netty server, validated and written
+ * in batched transactional chunks to Postgres. Logs the rows per second; only the counts are asserted since the
+ * timing depends on the machine.
+ */
+class ImportThroughputTests extends PostgresBenchmarkSupport {
+
+	private static final Logger log = LoggerFactory.getLogger(ImportThroughputTests.class);
+
+	private static final int ROWS = 20_000;
+	private static final int REJECTED_EVERY = 1_000;
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Test
+	void ndjsonUploadThroughput() {
+		String fixture = IntStream.rangeClosed(1, ROWS)
+				.mapToObj(i -> i % REJECTED_EVERY == 0
+						? "{\"name\":\"\",\"userId\":" + i + "}"
+						: "{\"name\":\"Empresa " + i + "\",\"userId\":" + i + "}")
+				.collect(Collectors.joining("\n", "", "\n"));
+		WebTestClient client = webTestClient.mutate().responseTimeout(Duration.ofMinutes(2)).build();
+
+		long start = System.nanoTime();
+		ImportResponse response = client.post().uri("/empresa/importar")
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.bodyValue(fixture)
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody(ImportResponse.class)
+				.returnResult()
+				.getResponseBody();
+		double seconds = (System.nanoTime() - start) / 1e9;
+		log.info("importar: {} rows, {} bytes, {} rows/s", ROWS, fixture.length(),
+				String.format("%.0f", ROWS / seconds));
+
+		assertEquals(ROWS, response.getReceived());
+		assertEquals(ROWS - ROWS / REJECTED_EVERY, response.getImported());
+		assertEquals(ROWS / REJECTED_EVERY, response.getRejected());
+	}
+}
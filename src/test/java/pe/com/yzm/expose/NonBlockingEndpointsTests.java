@@ -0,0 +1,151 @@
+package pe.com.yzm.expose;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Calls every endpoint through the Netty server with BlockHound installed. Only run by the blockHoundTest task,
+ * which starts the JVM with the flag BlockHound needs.
+ */
+@Tag("blockhound")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@Testcontainers
+class NonBlockingEndpointsTests {
+
+	private static final String REGISTRATION_DATE = "2026-10-17T00:00:00";
+
+	@Container
+	@ServiceConnection
+	static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@BeforeAll
+	static void installBlockHound() {
+		BlockHoundAllowList.install();
+	}
+
+	@AfterEach
+	void noBlockingCallWasDetected() {
+		assertEquals(List.of(), BlockHoundAllowList.drain());
+	}
+
+	@Test
+	void everyEndpointRunsWithoutBlocking() {
+		long userId = id(call(HttpMethod.POST, "/usuario/crear", Map.of("name", "usuario", "email",
+				"usuario@yzm.com.pe", "password", "secreto", "roleId", 1, "userId", 1)));
+		long userActivityId = id(call(HttpMethod.POST, "/usuario-actividad/crear",
+				Map.of("name", "desarrollo", "userId", userId)));
+		long companyId = id(call(HttpMethod.POST, "/empresa/crear", Map.of("name", "empresa", "userId", userId)));
+		long projectId = id(call(HttpMethod.POST, "/proyecto/crear",
+				Map.of("name", "proyecto", "companyId", companyId)));
+		long hourBagId = id(call(HttpMethod.POST, "/bolsa-horas/crear", Map.of("companyId", companyId, "hours", 100,
+				"hourCost", 10, "registrationDate", REGISTRATION_DATE)));
+		Map<String, Object> activity = Map.of("code", "ACT-1", "description", "actividad", "projectId", projectId,
+				"effortHours", 2, "hourBagId", hourBagId, "userActivityId", userActivityId);
+		long activityId = id(call(HttpMethod.POST, "/actividad/crear", activity));
+		call(HttpMethod.POST, "/actividad/crear-lote", List.of(activity, activity));
+
+		importRows("/empresa/importar", "{\"name\":\"importada\",\"userId\":" + userId + "}");
+		importRows("/proyecto/importar", "{\"name\":\"importado\",\"companyId\":" + companyId + "}");
+		importRows("/actividad/importar", "{\"code\":\"ACT-2\",\"description\":\"importada\",\"projectId\":"
+				+ projectId + ",\"effortHours\":1,\"hourBagId\":" + hourBagId + ",\"userActivityId\":"
+				+ userActivityId + "}");
+
+		for (String uri : List.of("/usuario/listar", "/usuario/listar?fields=id,name", "/usuario/obtener?ids=" + userId,
+				"/usuario/obtener/" + userId, "/rol/listar", "/rol/obtener?ids=1", "/rol/obtener/1",
+				"/usuario-actividad/listar", "/usuario-actividad/obtener?ids=" + userActivityId,
+				"/usuario-actividad/obtener/" + userActivityId, "/empresa/listar", "/empresa/listar/usuario/" + userId,
+				"/empresa/obtener?ids=" + companyId, "/empresa/obtener/" + companyId, "/proyecto/listar/user/" + userId,
+				"/proyecto/obtener?ids=" + projectId, "/proyecto/obtener/" + projectId, "/bolsa-horas/listar",
+				"/bolsa-horas/listar-activos", "/bolsa-horas/obtener?ids=" + hourBagId, "/actividad/listar",
+				"/actividad/listar?fields=id,code", "/actividad/buscar?projectId=" + projectId,
+				"/actividad/obtener?ids=" + activityId, "/actividad/obtener/" + activityId)) {
+			call(HttpMethod.GET, uri, null);
+		}
+		for (String uri : List.of("/usuario/listar", "/usuario-actividad/listar", "/empresa/listar",
+				"/bolsa-horas/listar", "/actividad/listar")) {
+			webTestClient.get().uri(uri)
+					.accept(MediaType.APPLICATION_NDJSON)
+					.exchange()
+					.expectStatus().isOk()
+					.returnResult(String.class)
+					.getResponseBody()
+					.blockLast();
+		}
+		webTestClient.get().uri("/actividad/exportar")
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody(String.class)
+				.value(csv -> assertTrue(csv.contains("ACT-1")));
+
+		call(HttpMethod.PUT, "/usuario/actualizar", Map.of("id", userId, "name", "usuario", "roleId", 1,
+				"userId", 1));
+		call(HttpMethod.PUT, "/usuario-actividad/actualizar", Map.of("id", userActivityId, "name", "pruebas",
+				"userId", userId));
+		call(HttpMethod.PUT, "/empresa/actualizar", Map.of("id", companyId, "name", "empresa", "userId", userId));
+		call(HttpMethod.PUT, "/proyecto/actualizar", Map.of("id", projectId, "name", "proyecto",
+				"companyId", companyId));
+		call(HttpMethod.PUT, "/bolsa-horas/actualizar", Map.of("id", hourBagId, "hours", 120, "hourCost", 10,
+				"registrationDate", REGISTRATION_DATE));
+		call(HttpMethod.PUT, "/actividad/actualizar", Map.of("id", activityId, "code", "ACT-1",
+				"description", "actividad", "projectId", projectId, "effortHours", 3, "hourBagId", hourBagId,
+				"userActivityId", userActivityId));
+
+		call(HttpMethod.DELETE, "/actividad/eliminar/" + activityId, null);
+		// The batched and imported activities still use the bag, so the guarded delete is rejected
+		webTestClient.delete().uri("/bolsa-horas/eliminar/" + hourBagId)
+				.accept(MediaType.APPLICATION_JSON)
+				.exchange()
+				.expectStatus().isBadRequest();
+		for (String uri : List.of("/proyecto/eliminar/" + projectId, "/empresa/eliminar/" + companyId,
+				"/usuario-actividad/eliminar/" + userActivityId, "/usuario/eliminar/" + userId)) {
+			call(HttpMethod.DELETE, uri, null);
+		}
+	}
+
+	// Business errors are fine; a blocking call surfaces as a 500
+	private JsonNode call(HttpMethod method, String uri, Object body) {
+		WebTestClient.RequestBodySpec request = webTestClient.method(method).uri(uri);
+		return (body == null ? request : request.bodyValue(body))
+				.accept(MediaType.APPLICATION_JSON)
+				.exchange()
+				.expectStatus().value(status -> assertTrue(status < 500, method + " " + uri + " returned " + status))
+				.expectBody(JsonNode.class)
+				.returnResult()
+				.getResponseBody();
+	}
+
+	private void importRows(String uri, String row) {
+		webTestClient.post().uri(uri)
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.bodyValue(row + "\n" + row + "\n")
+				.exchange()
+				.expectStatus().isOk();
+	}
+
+	private static long id(JsonNode response) {
+		return response.get("id").asLong();
+	}
+}
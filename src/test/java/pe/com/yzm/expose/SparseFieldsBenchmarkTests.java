@@ -0,0 +1,117 @@
+package pe.com.yzm.expose;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import pe.com.yzm.PostgresBenchmarkSupport;
+import pe.com.yzm.model.Activity;
+import pe.com.yzm.repository.ActivityRepository;
+import pe.com.yzm.util.PageUtil;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Rough comparison of /actividad/listar with every field against {@code fields=id,code}, paging through a large
+ * table with the largest page size. Logs the bytes and the time of each walk; only the item counts and the payload
+ * ordering are asserted since timings depend on the machine.
+ */
+class SparseFieldsBenchmarkTests extends PostgresBenchmarkSupport {
+
+	private static final Logger log = LoggerFactory.getLogger(SparseFieldsBenchmarkTests.class);
+
+	private static final int ROWS = 20_000;
+	private static final int CHUNK = 1_000;
+	private static final int ROUNDS = 3;
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Autowired
+	private ActivityRepository activityRepository;
+
+	@Autowired
+	private DatabaseClient databaseClient;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@BeforeEach
+	void seed() {
+		if (activityRepository.count().block() >= ROWS) {
+			return;
+		}
+		Long hourBagId = databaseClient.sql("INSERT INTO bolsas_horas (empresa_id, horas) VALUES (1, 100) RETURNING id")
+				.map(row -> row.get("id", Long.class))
+				.one()
+				.block();
+		Flux.range(0, ROWS / CHUNK)
+				.concatMap(chunk -> activityRepository.insertAll(LongStream.range(0, CHUNK)
+						.mapToObj(index -> activity((long) chunk * CHUNK + index, hourBagId))
+						.toList()))
+				.blockLast();
+	}
+
+	@Test
+	void requestedFieldsShrinkThePayload() throws IOException {
+		Walk full = null;
+		Walk sparse = null;
+		for (int i = 0; i < ROUNDS; i++) {
+			full = walk("/actividad/listar?limit=" + PageUtil.MAX_LIMIT);
+			sparse = walk("/actividad/listar?fields=id,code&limit=" + PageUtil.MAX_LIMIT);
+		}
+		log.info("all fields: {} items, {} bytes, {} ms", full.items(), full.bytes(),
+				String.format("%.2f", full.millis()));
+		log.info("id,code: {} items, {} bytes, {} ms", sparse.items(), sparse.bytes(),
+				String.format("%.2f", sparse.millis()));
+
+		assertTrue(full.items() >= ROWS);
+		assertEquals(full.items(), sparse.items());
+		assertTrue(sparse.bytes() < full.bytes());
+	}
+
+	private Walk walk(String uri) throws IOException {
+		long start = System.nanoTime();
+		int items = 0;
+		long bytes = 0;
+		String cursor = null;
+		do {
+			byte[] body = webTestClient.get()
+					.uri(cursor == null ? uri : uri + "&after=" + cursor)
+					.exchange()
+					.expectStatus().isOk()
+					.expectBody(byte[].class)
+					.returnResult()
+					.getResponseBody();
+			JsonNode page = objectMapper.readTree(body);
+			bytes += body.length;
+			items += page.get("items").size();
+			cursor = page.hasNonNull("nextCursor") ? page.get("nextCursor").asText() : null;
+		} while (cursor != null);
+		return new Walk(items, bytes, (System.nanoTime() - start) / 1e6);
+	}
+
+	private static Activity activity(long index, Long hourBagId) {
+		return Activity.builder()
+				.code("ACT-" + index)
+				.description("Actividad de desarrollo número " + index)
+				.projectId(index % 50 + 1)
+				.effortHours((int) (index % 8) + 1)
+				.hourBagId(hourBagId)
+				.userActivityId(index % 100 + 1)
+				.build();
+	}
+
+	private record Walk(int items, long bytes, double millis) {
+	}
+}
@@ -0,0 +1,65 @@
+package pe.com.yzm.logging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import pe.com.yzm.config.ContextPropagationConfig;
+import pe.com.yzm.core.model.HeadersConstant;
+import reactor.core.publisher.Hooks;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TransactionIdFilterTests {
+
+	private final TransactionIdFilter filter = new TransactionIdFilter();
+
+	@BeforeEach
+	void enablePropagation() {
+		new ContextPropagationConfig().afterPropertiesSet();
+		Hooks.enableAutomaticContextPropagation();
+	}
+
+	@AfterEach
+	void disablePropagation() {
+		Hooks.disableAutomaticContextPropagation();
+	}
+
+	@Test
+	void theHeaderIsAvailableInTheMdcOnAnotherThread() {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/actividad/listar")
+				.header(HeadersConstant.TRANSACTION_ID, "tx-123"));
+		AtomicReference<String> seen = new AtomicReference<>();
+
+		filter.filter(exchange, ignored -> Mono.just(1)
+						.publishOn(Schedulers.parallel())
+						.doOnNext(value -> seen.set(TransactionLogger.transactionId()))
+						.then())
+				.block();
+
+		assertEquals("tx-123", seen.get());
+		assertEquals("tx-123", exchange.getResponse().getHeaders().getFirst(HeadersConstant.TRANSACTION_ID));
+		assertNull(TransactionLogger.transactionId());
+	}
+
+	@Test
+	void aRequestWithoutTheHeaderGetsAGeneratedId() {
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/actividad/listar"));
+		AtomicReference<String> seen = new AtomicReference<>();
+
+		filter.filter(exchange, ignored -> Mono.just(1)
+						.doOnNext(value -> seen.set(TransactionLogger.transactionId()))
+						.then())
+				.block();
+
+		assertFalse(seen.get().isBlank());
+		assertEquals(seen.get(), exchange.getResponse().getHeaders().getFirst(HeadersConstant.TRANSACTION_ID));
+	}
+}
@@ -0,0 +1,109 @@
+package pe.com.yzm.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import pe.com.yzm.PostgresBenchmarkSupport;
+import pe.com.yzm.datasource.QueryStatsRecorder;
+import pe.com.yzm.expose.response.ProjectCompanyResponse;
+import pe.com.yzm.logging.TransactionLogger;
+import pe.com.yzm.mapper.ProjectMapper;
+import pe.com.yzm.model.Company;
+import pe.com.yzm.model.Project;
+import reactor.core.publisher.Flux;
+import reactor.util.context.Context;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Rough comparison of the proyectos JOIN empresas read against the fan-out it replaced (the companies of the user,
+ * then one findAllByCompanyId per company) for a user with many companies. The fan-out reads the companies without
+ * the cache, as on a cold request. Logs the round trips and the average time of each; only the round trips are
+ * asserted since timings depend on the machine.
+ */
+class ProjectQueryBenchmarkTests extends PostgresBenchmarkSupport {
+
+	private static final Logger log = LoggerFactory.getLogger(ProjectQueryBenchmarkTests.class);
+
+	private static final long USER_ID = 2_002L;
+	private static final int COMPANIES = 300;
+	private static final int PROJECTS_PER_COMPANY = 3;
+	private static final int WARM_UP = 5;
+	private static final int ROUNDS = 20;
+
+	@Autowired
+	private CompanyRepository companyRepository;
+
+	@Autowired
+	private ProjectRepository projectRepository;
+
+	@Autowired
+	private ProjectMapper projectMapper;
+
+	@Autowired
+	private QueryStatsRecorder queryStatsRecorder;
+
+	@BeforeEach
+	void seed() {
+		if (companyRepository.findUncachedAllByUserId(USER_ID).hasElements().block()) {
+			return;
+		}
+		List<Company> companies = IntStream.range(0, COMPANIES)
+				.mapToObj(index -> Company.builder().name("Empresa " + index).userId(USER_ID).build())
+				.toList();
+		List<Project> projects = companyRepository.insertAll(companies)
+				.flatMapIterable(companyId -> LongStream.range(0, PROJECTS_PER_COMPANY)
+						.mapToObj(index -> Project.builder().name("Proyecto " + index).companyId(companyId).build())
+						.toList())
+				.collectList()
+				.block();
+		projectRepository.insertAll(projects).blockLast();
+	}
+
+	@Test
+	void joinReadsInOneRoundTrip() {
+		int rows = COMPANIES * PROJECTS_PER_COMPANY;
+
+		int joinQueries = measure("join", rows, () -> projectRepository.findAllWithCompanyByUserId(USER_ID));
+		int fanOutQueries = measure("fan-out", rows, () -> companyRepository.findUncachedAllByUserId(USER_ID)
+				.flatMap(company -> projectRepository.findAllByCompanyId(company.getId())
+						.map(project -> projectMapper.projectToProjectCompanyResponse(project, company.getName()))));
+
+		assertEquals(1, joinQueries);
+		assertEquals(COMPANIES + 1, fanOutQueries);
+		assertTrue(joinQueries < fanOutQueries);
+	}
+
+	private int measure(String name, int rows, Supplier<Flux<ProjectCompanyResponse>> read) {
+		for (int i = 0; i < WARM_UP; i++) {
+			run(name + "-warm-up", rows, read);
+		}
+		long start = System.nanoTime();
+		int queries = 0;
+		for (int i = 0; i < ROUNDS; i++) {
+			queries = run(name + "-" + i, rows, read);
+		}
+		double millis = (System.nanoTime() - start) / 1e6 / ROUNDS;
+		log.info("{}: {} rows, {} round trips, {} ms", name, rows, queries, String.format("%.2f", millis));
+		return queries;
+	}
+
+	private int run(String transactionId, int rows, Supplier<Flux<ProjectCompanyResponse>> read) {
+		long count = read.get()
+				.contextWrite(Context.of(TransactionLogger.TRANSACTION_ID, transactionId))
+				.count()
+				.block();
+		assertEquals(rows, count);
+		int queries = queryStatsRecorder.queries(transactionId);
+		queryStatsRecorder.requestFinished(transactionId);
+		return queries;
+	}
+}
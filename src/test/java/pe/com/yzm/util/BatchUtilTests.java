@@ -0,0 +1,33 @@
+package pe.com.yzm.util;
+
+import org.junit.jupiter.api.Test;
+import pe.com.yzm.expose.response.BatchResponse;
+import pe.com.yzm.expose.response.UserResponse;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BatchUtilTests {
+
+	@Test
+	void repeatedIdsAreQueriedOnce() {
+		assertArrayEquals(new Long[]{3L, 1L, 2L}, BatchUtil.toArray(List.of(3L, 1L, 3L, 2L, 1L)));
+	}
+
+	@Test
+	void foundElementsFollowTheRequestOrderAndMissingIdsAreReported() {
+		List<UserResponse> found = List.of(user(1L), user(4L), user(3L));
+
+		BatchResponse<UserResponse> batch = BatchUtil.inRequestOrder(List.of(3L, 2L, 1L, 3L, 5L, 4L), found,
+				UserResponse::getId);
+
+		assertEquals(List.of(3L, 1L, 4L), batch.getItems().stream().map(UserResponse::getId).toList());
+		assertEquals(List.of(2L, 5L), batch.getMissingIds());
+	}
+
+	private static UserResponse user(Long id) {
+		return UserResponse.builder().id(id).build();
+	}
+}
@@ -0,0 +1,29 @@
+package pe.com.yzm.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CsvUtilTests {
+
+	@Test
+	void fieldsAreQuotedOnlyWhenNeeded() {
+		assertEquals("1,\"Diseño, análisis\",\"dice \"\"hola\"\"\",,12.50\r\n",
+				line(1L, "Diseño, análisis", "dice \"hola\"", null, new BigDecimal("12.50")));
+	}
+
+	@Test
+	void formulasAreNotEvaluatedBySpreadsheets() {
+		assertEquals("'=SUM(A1:A2),\"'+1,2\",-3\r\n", line("=SUM(A1:A2)", "+1,2", -3));
+	}
+
+	private static String line(Object... values) {
+		DataBuffer buffer = CsvUtil.writeLine(DefaultDataBufferFactory.sharedInstance.allocateBuffer(16), values);
+		return buffer.toString(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,62 @@
+package pe.com.yzm.util;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import pe.com.yzm.core.exception.BusinessException;
+import reactor.core.publisher.Mono;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Rough comparison of the allocation and time per successful lookup with the not-found error built eagerly, as the
+ * services did before, and with the reusable lazy error of ErrorUtil. Logs one line per variant; only the
+ * allocation ordering is asserted since timings depend on the machine.
+ */
+@Tag("benchmark")
+class ErrorUtilBenchmarkTests {
+
+	private static final Logger log = LoggerFactory.getLogger(ErrorUtilBenchmarkTests.class);
+
+	private static final int WARM_UP = 50_000;
+	private static final int CALLS = 200_000;
+	private static final Mono<String> NOT_FOUND = ErrorUtil.notFound(ConstantMessage.ACTIVITY_GET_ERROR,
+			ConstantMessage.ACTIVITY_NOT_FOUND);
+
+	@Test
+	void aFoundRowAllocatesLessWithTheLazyError() {
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+		long eager = measure(threads, "eager", () -> Mono.just("actividad")
+				.switchIfEmpty(Mono.error(BusinessException.createException(ConstantMessage.ACTIVITY_GET_ERROR,
+						List.of(ConstantMessage.ACTIVITY_NOT_FOUND), HttpStatus.NOT_FOUND)))
+				.block());
+		long lazy = measure(threads, "lazy", () -> Mono.just("actividad")
+				.switchIfEmpty(NOT_FOUND)
+				.block());
+
+		assertTrue(lazy < eager, () -> "lazy " + lazy + " bytes/call, eager " + eager + " bytes/call");
+	}
+
+	private static long measure(com.sun.management.ThreadMXBean threads, String name, Supplier<String> lookup) {
+		for (int call = 0; call < WARM_UP; call++) {
+			lookup.get();
+		}
+		long threadId = Thread.currentThread().getId();
+		long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+		long start = System.nanoTime();
+		for (int call = 0; call < CALLS; call++) {
+			lookup.get();
+		}
+		long nanos = (System.nanoTime() - start) / CALLS;
+		long bytes = (threads.getThreadAllocatedBytes(threadId) - allocatedBefore) / CALLS;
+		log.info("{}: {} bytes/call, {} ns/call", name, bytes, nanos);
+		return bytes;
+	}
+}
@@ -0,0 +1,48 @@
+package pe.com.yzm.util;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pe.com.yzm.expose.request.CompanyCreateRequest;
+import pe.com.yzm.expose.response.ImportResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Overhead of the validation and chunking alone, over decoded rows and a writer that does nothing. Logs the rows
+ * per second; only the counts are asserted since the timing depends on the machine. The throughput of a real
+ * upload, decoding and database included, is measured by ImportThroughputTests.
+ */
+@Tag("benchmark")
+class ImportUtilBenchmarkTests {
+
+	private static final Logger log = LoggerFactory.getLogger(ImportUtilBenchmarkTests.class);
+
+	private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
+	private static final int ROWS = 200_000;
+	private static final int REJECTED_EVERY = 1_000;
+
+	@Test
+	void validationAndChunkingOverhead() {
+		Flux<CompanyCreateRequest> rows = Flux.range(1, ROWS)
+				.map(i -> CompanyCreateRequest.builder()
+						.name(i % REJECTED_EVERY == 0 ? "" : "Empresa " + i)
+						.userId((long) i)
+						.build());
+
+		long start = System.nanoTime();
+		ImportResponse response = ImportUtil.importRows(rows, VALIDATOR, 500, 1000,
+				chunk -> Mono.just((long) chunk.size())).block();
+		double seconds = (System.nanoTime() - start) / 1e9;
+		log.info("validate: {} rows, {} rows/s", ROWS, String.format("%.0f", ROWS / seconds));
+
+		assertEquals(ROWS - ROWS / REJECTED_EVERY, response.getImported());
+		assertEquals(ROWS / REJECTED_EVERY, response.getRejected());
+	}
+}
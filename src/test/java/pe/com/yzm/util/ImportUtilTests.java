@@ -0,0 +1,83 @@
+package pe.com.yzm.util;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.codec.DecodingException;
+import pe.com.yzm.expose.request.CompanyCreateRequest;
+import pe.com.yzm.expose.response.ImportResponse;
+import pe.com.yzm.expose.response.ImportRowError;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImportUtilTests {
+
+	private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
+	@Test
+	void invalidRowsAreReportedAndTheRestAreWritten() {
+		Flux<CompanyCreateRequest> rows = Flux.just(company("A", 1L), company("", 1L), company("C", null),
+				company("D", 2L));
+
+		ImportResponse response = ImportUtil.importRows(rows, VALIDATOR, 2, 10,
+				chunk -> Mono.just((long) chunk.size())).block();
+
+		assertEquals(4L, response.getReceived());
+		assertEquals(2L, response.getImported());
+		assertEquals(2L, response.getRejected());
+		assertEquals(List.of(2L, 3L), response.getErrors().stream().map(ImportRowError::getRow).toList());
+		assertEquals(1, response.getErrors().get(0).getMessages().size());
+		assertTrue(response.getErrors().get(0).getMessages().get(0).startsWith("name: "));
+	}
+
+	@Test
+	void everyRowOfAFailedChunkIsReportedAndLaterChunksAreStillWritten() {
+		Flux<CompanyCreateRequest> rows = Flux.range(1, 5).map(i -> company("E" + i, (long) i));
+		AtomicLong chunks = new AtomicLong();
+
+		ImportResponse response = ImportUtil.importRows(rows, VALIDATOR, 2, 10,
+				chunk -> chunks.incrementAndGet() == 1
+						? Mono.error(new IllegalStateException("duplicado"))
+						: Mono.just((long) chunk.size())).block();
+
+		assertEquals(3L, response.getImported());
+		assertEquals(List.of(1L, 2L), response.getErrors().stream().map(ImportRowError::getRow).toList());
+	}
+
+	@Test
+	void rowsReadBeforeAnUnreadableBodyAreWrittenAndThePositionIsReported() {
+		Flux<CompanyCreateRequest> rows = Flux.range(1, 3)
+				.map(i -> company("F" + i, (long) i))
+				.concatWith(Flux.error(new DecodingException("JSON decoding error: Unexpected character")));
+
+		ImportResponse response = ImportUtil.importRows(rows, VALIDATOR, 2, 10,
+				chunk -> Mono.just((long) chunk.size())).block();
+
+		assertEquals(3L, response.getReceived());
+		assertEquals(3L, response.getImported());
+		assertEquals(0L, response.getRejected());
+		assertEquals(List.of(4L), response.getErrors().stream().map(ImportRowError::getRow).toList());
+		assertTrue(response.getErrors().get(0).getMessages().get(0).endsWith("Unexpected character"));
+	}
+
+	@Test
+	void onlyTheFirstErrorsAreDetailed() {
+		Flux<CompanyCreateRequest> rows = Flux.range(1, 20).map(i -> company("", (long) i));
+
+		ImportResponse response = ImportUtil.importRows(rows, VALIDATOR, 5, 3,
+				chunk -> Mono.just((long) chunk.size())).block();
+
+		assertEquals(20L, response.getRejected());
+		assertEquals(3, response.getErrors().size());
+	}
+
+	private static CompanyCreateRequest company(String name, Long userId) {
+		return CompanyCreateRequest.builder().name(name).userId(userId).build();
+	}
+}
@@ -0,0 +1,122 @@
+package pe.com.yzm.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.ReflectionUtils;
+import pe.com.yzm.core.exception.BusinessException;
+import pe.com.yzm.expose.response.PageResponse;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PageUtilTests {
+
+	private static final int BATCH_SIZE = 4;
+
+	@Test
+	void cursorRoundTripsTheLastId() {
+		StepVerifier.create(PageUtil.decodeCursor(PageUtil.encodeCursor(42L)))
+				.expectNext(42L)
+				.verifyComplete();
+	}
+
+	@Test
+	void missingCursorStartsFromTheFirstRow() {
+		StepVerifier.create(PageUtil.decodeCursor(null))
+				.expectNext(0L)
+				.verifyComplete();
+		StepVerifier.create(PageUtil.decodeCursor(" "))
+				.expectNext(0L)
+				.verifyComplete();
+	}
+
+	@Test
+	void malformedCursorsAreABadRequest() {
+		String notANumber = Base64.getUrlEncoder().encodeToString("abc".getBytes(StandardCharsets.UTF_8));
+
+		for (String cursor : List.of("no base64!", notANumber)) {
+			StepVerifier.create(PageUtil.decodeCursor(cursor))
+					.expectErrorSatisfies(error -> {
+						assertInstanceOf(BusinessException.class, error);
+						assertEquals(HttpStatus.BAD_REQUEST, status(error));
+					})
+					.verify();
+		}
+	}
+
+	@Test
+	void extraRowIsTrimmedAndTheCursorPointsAtTheLastItem() {
+		PageResponse<Long> page = PageUtil.toPage(List.of(1L, 2L, 3L, 4L), 3, Function.identity());
+
+		assertEquals(List.of(1L, 2L, 3L), page.getItems());
+		assertEquals(PageUtil.encodeCursor(3L), page.getNextCursor());
+	}
+
+	@Test
+	void pageWithoutTheExtraRowIsTheLast() {
+		PageResponse<Long> page = PageUtil.toPage(List.of(1L, 2L, 3L), 3, Function.identity());
+
+		assertEquals(List.of(1L, 2L, 3L), page.getItems());
+		assertNull(page.getNextCursor());
+	}
+
+	@Test
+	void streamAllEmitsEveryRowInOrder() {
+		List<Long> queriedAfter = new ArrayList<>();
+
+		StepVerifier.create(PageUtil.streamAll(table(10, queriedAfter), Function.identity(), BATCH_SIZE))
+				.expectNext(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L)
+				.verifyComplete();
+
+		assertEquals(List.of(0L, 4L, 8L), queriedAfter);
+	}
+
+	@Test
+	void streamAllReadsAtMostOneBatchAhead() {
+		List<Long> queriedAfter = new ArrayList<>();
+
+		StepVerifier.create(PageUtil.streamAll(table(100, queriedAfter), Function.identity(), BATCH_SIZE), 2)
+				.expectNext(1L, 2L)
+				.then(() -> assertTrue(queriedAfter.size() <= 2))
+				.thenCancel()
+				.verify();
+	}
+
+	@Test
+	void streamAllOfAnEmptyTableRunsASingleQuery() {
+		List<Long> queriedAfter = new ArrayList<>();
+
+		StepVerifier.create(PageUtil.streamAll(table(0, queriedAfter), Function.identity(), BATCH_SIZE))
+				.verifyComplete();
+
+		assertEquals(List.of(0L), queriedAfter);
+	}
+
+	// The status is read by type, as BusinessException only comes from the core library
+	private static HttpStatus status(Throwable error) {
+		List<HttpStatus> statuses = new ArrayList<>();
+		ReflectionUtils.doWithFields(error.getClass(), field -> {
+			ReflectionUtils.makeAccessible(field);
+			statuses.add((HttpStatus) field.get(error));
+		}, field -> field.getType() == HttpStatus.class);
+		return statuses.isEmpty() ? null : statuses.get(0);
+	}
+
+	private static BiFunction<Long, Integer, Flux<Long>> table(long rows, List<Long> queriedAfter) {
+		return (after, limit) -> Flux.defer(() -> {
+			queriedAfter.add(after);
+			return Flux.range(1, (int) rows).map(Integer::longValue).filter(id -> id > after).take(limit);
+		});
+	}
+}
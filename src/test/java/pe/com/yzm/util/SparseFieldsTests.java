@@ -0,0 +1,47 @@
+package pe.com.yzm.util;
+
+import org.junit.jupiter.api.Test;
+import pe.com.yzm.core.exception.BusinessException;
+import pe.com.yzm.model.User;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SparseFieldsTests {
+
+	private static final SparseFields<User> FIELDS = SparseFields.<User>builder("id")
+			.field("id", "id", User::getId)
+			.field("name", "nombre", User::getName)
+			.field("email", "email", User::getEmail)
+			.build();
+
+	@Test
+	void selectionReadsTheIdColumnEvenWhenNotRequested() {
+		StepVerifier.create(FIELDS.select("name"))
+				.assertNext(selection -> assertEquals(List.of("id", "nombre"), selection.columns()))
+				.verifyComplete();
+	}
+
+	@Test
+	void projectionKeepsOnlyTheRequestedFieldsInOrder() {
+		User user = User.builder().id(7L).name("Ana").email("ana@yzm.pe").build();
+
+		StepVerifier.create(FIELDS.select(" name , id,name"))
+				.assertNext(selection -> assertEquals(List.of("name", "id"),
+						List.copyOf(selection.project(user).keySet())))
+				.verifyComplete();
+		StepVerifier.create(FIELDS.select("email"))
+				.assertNext(selection -> assertEquals(Map.of("email", "ana@yzm.pe"), selection.project(user)))
+				.verifyComplete();
+	}
+
+	@Test
+	void unknownFieldsAreRejected() {
+		StepVerifier.create(FIELDS.select("id,password"))
+				.expectError(BusinessException.class)
+				.verify();
+	}
+}
@@ -0,0 +1,66 @@
+CREATE TABLE IF NOT EXISTS bolsas_horas (
+    id               BIGSERIAL PRIMARY KEY,
+    empresa_id       BIGINT,
+    horas            INTEGER,
+    horas_consumidas INTEGER,
+    costo_hora       NUMERIC(12, 2),
+    fecha_registro   TIMESTAMP,
+    estado           BOOLEAN
+);
+
+CREATE TABLE IF NOT EXISTS actividades (
+    id                   BIGSERIAL PRIMARY KEY,
+    codigo               VARCHAR(50),
+    descripcion          VARCHAR(500),
+    proyecto_id          BIGINT,
+    horas_esfuerzo       INTEGER,
+    bolsa_hora_id        BIGINT REFERENCES bolsas_horas (id),
+    usuario_actividad_id BIGINT
+);
+
+CREATE TABLE IF NOT EXISTS empresas (
+    id         BIGSERIAL PRIMARY KEY,
+    nombre     VARCHAR(200),
+    usuario_id BIGINT
+);
+
+CREATE TABLE IF NOT EXISTS proyectos (
+    id         BIGSERIAL PRIMARY KEY,
+    nombre     VARCHAR(200),
+    empresa_id BIGINT
+);
+
+CREATE INDEX IF NOT EXISTS actividades_proyecto_id_id_idx ON actividades (proyecto_id, id);
+CREATE INDEX IF NOT EXISTS actividades_bolsa_hora_id_id_idx ON actividades (bolsa_hora_id, id);
+CREATE INDEX IF NOT EXISTS actividades_usuario_actividad_id_id_idx ON actividades (usuario_actividad_id, id);
+
+CREATE TABLE IF NOT EXISTS roles (
+    id     BIGSERIAL PRIMARY KEY,
+    nombre VARCHAR(100)
+);
+
+CREATE TABLE IF NOT EXISTS usuarios (
+    id         BIGSERIAL PRIMARY KEY,
+    nombre     VARCHAR(200),
+    email      VARCHAR(200),
+    clave      VARCHAR(100),
+    rol_id     BIGINT,
+    usuario_id BIGINT
+);
+
+CREATE TABLE IF NOT EXISTS usuarios_actividades (
+    id         BIGSERIAL PRIMARY KEY,
+    nombre     VARCHAR(200),
+    usuario_id BIGINT
+);
+
+CREATE TABLE IF NOT EXISTS versiones_entidades (
+    entidad VARCHAR(30) PRIMARY KEY,
+    version BIGINT      NOT NULL DEFAULT 0
+);
+
+INSERT INTO versiones_entidades (entidad)
+VALUES ('ACTIVITY'), ('COMPANY'), ('HOUR_BAG'), ('PROJECT'), ('USER'), ('USER_ACTIVITY')
+ON CONFLICT (entidad) DO NOTHING;
+
+INSERT INTO roles (id, nombre) VALUES (1, 'ADMIN') ON CONFLICT (id) DO NOTHING;